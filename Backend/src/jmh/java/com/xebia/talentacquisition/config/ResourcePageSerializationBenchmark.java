@@ -0,0 +1,50 @@
+package com.xebia.talentacquisition.config;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.xebia.talentacquisition.dto.PaginationResponse;
+import com.xebia.talentacquisition.dto.ResourceDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.xebia.talentacquisition.config.PaginationSerializationTest.PAGE_TYPE;
+import static com.xebia.talentacquisition.config.PaginationSerializationTest.samplePage;
+import static com.xebia.talentacquisition.config.PaginationSerializationTest.tunedMapper;
+
+/**
+ * Writes the 100-row page of {@link PaginationSerializationTest} with Spring's default ObjectMapper and with the
+ * application's, which adds the Blackbird module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResourcePageSerializationBenchmark {
+
+    private PaginationResponse<ResourceDTO> page;
+    private ObjectWriter defaultWriter;
+    private ObjectWriter blackbirdWriter;
+
+    @Setup
+    public void setUp() {
+        page = samplePage();
+        defaultWriter = Jackson2ObjectMapperBuilder.json().build().writerFor(PAGE_TYPE);
+        blackbirdWriter = tunedMapper().writerFor(PAGE_TYPE);
+    }
+
+    @Benchmark
+    public byte[] defaultMapper() throws Exception {
+        return defaultWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] blackbirdMapper() throws Exception {
+        return blackbirdWriter.writeValueAsBytes(page);
+    }
+}
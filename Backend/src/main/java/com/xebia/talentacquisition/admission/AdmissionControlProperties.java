@@ -0,0 +1,36 @@
+package com.xebia.talentacquisition.admission;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "admission-control")
+public class AdmissionControlProperties {
+
+    private boolean enabled = true;
+
+    private int retryAfterSeconds = 2;
+
+    private Limit defaults = new Limit();
+
+    // Per-endpoint overrides keyed by the @AdmissionControlled name
+    private Map<String, Limit> endpoints = new HashMap<>();
+
+    public Limit settingsFor(String name) {
+        return endpoints.getOrDefault(name, defaults);
+    }
+
+    @Data
+    public static class Limit {
+        private int initialLimit = 8;
+        private int minLimit = 2;
+        private int maxLimit = 32;
+        private int maxQueue = 16;
+        private long maxWaitMillis = 250;
+        private long latencyTargetMillis = 500;
+        private double backoffRatio = 0.9;
+    }
+}
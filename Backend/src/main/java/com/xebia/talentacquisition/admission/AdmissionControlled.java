@@ -0,0 +1,17 @@
+package com.xebia.talentacquisition.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an expensive controller endpoint that must pass through its own adaptive concurrency limiter.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdmissionControlled {
+
+    // Limiter name, also the key for per-endpoint settings under admission-control.endpoints
+    String value();
+}
@@ -0,0 +1,353 @@
+package com.xebia.talentacquisition.analytics;
+
+import com.xebia.talentacquisition.dto.PivotDTO;
+import com.xebia.talentacquisition.event.ResourceChangedEvent;
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Columnar in-memory snapshot of the live resources for ad-hoc cross-tabs. Every resource owns a row; each
+ * single-valued dimension is an int column of dictionary codes and each skill is a bitset of the rows that
+ * have it. A pivot builds a bitset of the rows matching its filters and counts mixed-radix cell keys, so it
+ * never touches the database. Writes are applied per changed resource; freed rows are reused.
+ */
+@Component
+@RequiredArgsConstructor
+public class BenchCube {
+
+    private static final String SKILL_SEPARATOR = "\u001f";
+    private static final int MISSING = -1;
+    private static final int NO_MATCH = -2;
+    // Larger key spaces are counted in a map instead of a dense array
+    private static final int MAX_DENSE_CELLS = 1 << 20;
+
+    private static final List<Dimension> COLUMNS = Arrays.stream(Dimension.values())
+            .filter(dimension -> dimension != Dimension.SKILL)
+            .toList();
+
+    private final ResourceRepository resourceRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Dimension, Dictionary> dictionaries = new EnumMap<>(Dimension.class);
+    private final Map<Dimension, int[]> columns = new EnumMap<>(Dimension.class);
+    private final List<BitSet> skillRows = new ArrayList<>();
+    private final Map<Long, Integer> rowById = new HashMap<>();
+    private final Deque<Integer> freeRows = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    private int capacity;
+    private int rowCount;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void loadCube() {
+        List<ResourceRepository.CubeSource> sources;
+        try (Stream<ResourceRepository.CubeSource> stream = resourceRepository.streamCubeSources()) {
+            sources = stream.toList();
+        }
+        lock.writeLock().lock();
+        try {
+            clear();
+            sources.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // The write lock only keeps pivots from seeing a half-applied change. The monitor, shared with loadCube,
+    // covers the query too: two async refreshes of one resource cannot apply an older read over a newer one,
+    // and a full reload cannot interleave with an incremental one.
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onResourceChanged(ResourceChangedEvent event) {
+        List<ResourceRepository.CubeSource> sources = event.deleted()
+                ? List.of() : resourceRepository.findCubeSources(event.resourceIds());
+        Set<Long> missing = new HashSet<>(event.resourceIds());
+        lock.writeLock().lock();
+        try {
+            for (ResourceRepository.CubeSource source : sources) {
+                missing.remove(source.getId());
+                put(source);
+            }
+            missing.forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Counts resources per combination of the given dimensions among those matching every filter. A resource
+     * with several skills falls into one cell per skill when grouping by skill.
+     */
+    public PivotDTO pivot(List<Dimension> dimensions, Map<Dimension, String> filters, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet rows = filter(filters);
+            int[] radix = new int[dimensions.size()];
+            long cells = 1;
+            for (int d = 0; d < dimensions.size(); d++) {
+                // Code + 1, so MISSING becomes digit 0
+                radix[d] = size(dimensions.get(d)) + 1;
+                cells *= radix[d];
+            }
+            Counter counter = cells <= MAX_DENSE_CELLS ? new DenseCounter((int) cells) : new SparseCounter();
+
+            int skillDimension = dimensions.indexOf(Dimension.SKILL);
+            long total = 0;
+            if (skillDimension < 0) {
+                for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                    counter.increment(key(row, dimensions, radix, MISSING));
+                    total++;
+                }
+            } else {
+                for (int skill = 0; skill < skillRows.size(); skill++) {
+                    BitSet withSkill = (BitSet) skillRows.get(skill).clone();
+                    withSkill.and(rows);
+                    for (int row = withSkill.nextSetBit(0); row >= 0; row = withSkill.nextSetBit(row + 1)) {
+                        counter.increment(key(row, dimensions, radix, skill));
+                        total++;
+                    }
+                }
+            }
+
+            List<PivotDTO.Cell> result = new ArrayList<>();
+            counter.forEach((key, count) -> result.add(PivotDTO.Cell.builder()
+                    .values(decode(key, dimensions, radix))
+                    .count(count)
+                    .build()));
+            result.sort(Comparator.comparingInt(PivotDTO.Cell::getCount).reversed()
+                    .thenComparing(cell -> String.valueOf(cell.getValues())));
+            return PivotDTO.builder()
+                    .dimensions(dimensions.stream().map(Dimension::key).toList())
+                    .total(total)
+                    .cells(result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rowById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet filter(Map<Dimension, String> filters) {
+        BitSet rows = (BitSet) live.clone();
+        for (Map.Entry<Dimension, String> filter : filters.entrySet()) {
+            int code = dictionary(filter.getKey()).find(filter.getValue());
+            if (code == NO_MATCH) {
+                return new BitSet();
+            }
+            if (filter.getKey() == Dimension.SKILL) {
+                rows.and(skillRows.get(code));
+                continue;
+            }
+            int[] column = columns.get(filter.getKey());
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                if (column[row] != code) {
+                    rows.clear(row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private long key(int row, List<Dimension> dimensions, int[] radix, int skill) {
+        long key = 0;
+        for (int d = 0; d < dimensions.size(); d++) {
+            Dimension dimension = dimensions.get(d);
+            int code = dimension == Dimension.SKILL ? skill : columns.get(dimension)[row];
+            key = key * radix[d] + code + 1;
+        }
+        return key;
+    }
+
+    private List<String> decode(long key, List<Dimension> dimensions, int[] radix) {
+        String[] values = new String[dimensions.size()];
+        for (int d = dimensions.size() - 1; d >= 0; d--) {
+            values[d] = dictionary(dimensions.get(d)).value((int) (key % radix[d]) - 1);
+            key /= radix[d];
+        }
+        return Arrays.asList(values);
+    }
+
+    private void put(ResourceRepository.CubeSource source) {
+        Integer row = rowById.get(source.getId());
+        if (row != null) {
+            clearSkills(row);
+        } else {
+            row = freeRows.isEmpty() ? rowCount++ : freeRows.pop();
+            ensureCapacity(row + 1);
+            rowById.put(source.getId(), row);
+        }
+        columns.get(Dimension.STATUS)[row] = dictionary(Dimension.STATUS).encode(source.getStatus());
+        columns.get(Dimension.LOCATION)[row] = dictionary(Dimension.LOCATION).encode(source.getLocation());
+        columns.get(Dimension.DESIGNATION)[row] = dictionary(Dimension.DESIGNATION).encode(source.getDesignation());
+        columns.get(Dimension.EXPERIENCE_BAND)[row] = dictionary(Dimension.EXPERIENCE_BAND)
+                .encode(Dimension.experienceBand(source.getTotalExperience()));
+        columns.get(Dimension.AVAILABILITY_MONTH)[row] = dictionary(Dimension.AVAILABILITY_MONTH)
+                .encode(Dimension.month(source.getAvailabilityDate()));
+        if (source.getSkills() != null) {
+            for (String skill : source.getSkills().split(SKILL_SEPARATOR)) {
+                if (!skill.isBlank()) {
+                    int code = dictionary(Dimension.SKILL).encode(skill.trim());
+                    while (skillRows.size() <= code) {
+                        skillRows.add(new BitSet());
+                    }
+                    skillRows.get(code).set(row);
+                }
+            }
+        }
+        live.set(row);
+    }
+
+    private void remove(Long id) {
+        Integer row = rowById.remove(id);
+        if (row != null) {
+            live.clear(row);
+            clearSkills(row);
+            freeRows.push(row);
+        }
+    }
+
+    private void clearSkills(int row) {
+        for (BitSet rows : skillRows) {
+            rows.clear(row);
+        }
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= capacity) {
+            return;
+        }
+        capacity = Math.max(rows, Math.max(1024, capacity * 2));
+        for (Dimension dimension : COLUMNS) {
+            columns.put(dimension, Arrays.copyOf(columns.getOrDefault(dimension, new int[0]), capacity));
+        }
+    }
+
+    private void clear() {
+        dictionaries.clear();
+        columns.clear();
+        skillRows.clear();
+        rowById.clear();
+        freeRows.clear();
+        live.clear();
+        capacity = 0;
+        rowCount = 0;
+        // Bands are known up front, so their codes follow their order
+        for (String band : Dimension.EXPERIENCE_BANDS) {
+            dictionary(Dimension.EXPERIENCE_BAND).encode(band);
+        }
+    }
+
+    private Dictionary dictionary(Dimension dimension) {
+        return dictionaries.computeIfAbsent(dimension, key -> new Dictionary());
+    }
+
+    private int size(Dimension dimension) {
+        return dictionary(dimension).values.size();
+    }
+
+    // Codes are never reassigned, so a value removed from every row simply stops showing up in counts
+    private static final class Dictionary {
+
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+
+        int encode(String value) {
+            if (value == null) {
+                return MISSING;
+            }
+            return codes.computeIfAbsent(value, key -> {
+                values.add(key);
+                return values.size() - 1;
+            });
+        }
+
+        // Exact match first, then case-insensitive, since filters come from query strings
+        int find(String value) {
+            Integer code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            for (int i = 0; i < values.size(); i++) {
+                if (values.get(i).equalsIgnoreCase(value)) {
+                    return i;
+                }
+            }
+            return NO_MATCH;
+        }
+
+        String value(int code) {
+            return code == MISSING ? null : values.get(code);
+        }
+    }
+
+    private interface Counter {
+        void increment(long key);
+
+        void forEach(CellConsumer consumer);
+    }
+
+    @FunctionalInterface
+    private interface CellConsumer {
+        void accept(long key, int count);
+    }
+
+    private static final class DenseCounter implements Counter {
+
+        private final int[] counts;
+
+        DenseCounter(int cells) {
+            counts = new int[cells];
+        }
+
+        @Override
+        public void increment(long key) {
+            counts[(int) key]++;
+        }
+
+        @Override
+        public void forEach(CellConsumer consumer) {
+            for (int key = 0; key < counts.length; key++) {
+                if (counts[key] > 0) {
+                    consumer.accept(key, counts[key]);
+                }
+            }
+        }
+    }
+
+    private static final class SparseCounter implements Counter {
+
+        private final Map<Long, int[]> counts = new HashMap<>();
+
+        @Override
+        public void increment(long key) {
+            counts.computeIfAbsent(key, k -> new int[1])[0]++;
+        }
+
+        @Override
+        public void forEach(CellConsumer consumer) {
+            counts.forEach((key, count) -> consumer.accept(key, count[0]));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.xebia.talentacquisition.analytics;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * A column of the {@link BenchCube} that pivots can group or filter by.
+ */
+public enum Dimension {
+    STATUS("status"),
+    LOCATION("location"),
+    DESIGNATION("designation"),
+    SKILL("skill"),
+    EXPERIENCE_BAND("experience"),
+    AVAILABILITY_MONTH("availability-month");
+
+    // Upper bounds (inclusive, in years) of every experience band but the last
+    private static final int[] EXPERIENCE_BOUNDS = {2, 5, 10, 15};
+    static final String[] EXPERIENCE_BANDS = {"0-2", "3-5", "6-10", "11-15", "16+"};
+
+    private final String key;
+
+    Dimension(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static Dimension of(String key) {
+        return Arrays.stream(values())
+                .filter(dimension -> dimension.key.equalsIgnoreCase(key.trim()))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Unknown dimension: " + key + ", expected one of " +
+                        Arrays.stream(values()).map(Dimension::key).collect(Collectors.joining(", "))));
+    }
+
+    static String experienceBand(Integer years) {
+        if (years == null) {
+            return null;
+        }
+        for (int i = 0; i < EXPERIENCE_BOUNDS.length; i++) {
+            if (years <= EXPERIENCE_BOUNDS[i]) {
+                return EXPERIENCE_BANDS[i];
+            }
+        }
+        return EXPERIENCE_BANDS[EXPERIENCE_BANDS.length - 1];
+    }
+
+    // "2024-03"
+    static String month(LocalDate date) {
+        return date != null ? date.toString().substring(0, 7) : null;
+    }
+}
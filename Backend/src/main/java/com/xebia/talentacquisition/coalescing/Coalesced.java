@@ -0,0 +1,18 @@
+package com.xebia.talentacquisition.coalescing;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an expensive read-only service method whose concurrent calls with equal arguments share one
+ * in-flight invocation and its result.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+
+    // Call name, used in metrics and as the key for per-call settings under coalescing.calls
+    String value();
+}
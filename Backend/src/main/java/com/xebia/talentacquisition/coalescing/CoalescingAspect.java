@@ -0,0 +1,100 @@
+package com.xebia.talentacquisition.coalescing;
+
+import com.xebia.talentacquisition.event.ResourceChangedEvent;
+import com.xebia.talentacquisition.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single-flight for {@link Coalesced} methods: the first caller for a name and argument list runs the
+ * method, and callers arriving while it runs wait for its result instead of repeating the work. Ordered
+ * outside the transaction advice, so only the leading call opens a transaction.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class CoalescingAspect {
+
+    private final CoalescingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private record Key(String name, List<Object> args) {
+    }
+
+    @PostConstruct
+    void registerGauge() {
+        Gauge.builder("coalescing.inflight", inFlight, Map::size).register(meterRegistry);
+    }
+
+    @Around("@annotation(com.xebia.talentacquisition.coalescing.Coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        Coalesced coalesced = ((MethodSignature) joinPoint.getSignature()).getMethod().getAnnotation(Coalesced.class);
+        Key key = new Key(coalesced.value(), Arrays.asList(joinPoint.getArgs()));
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return join(existing, coalesced.value());
+        }
+
+        count(coalesced.value(), "leader");
+        try {
+            Object result = joinPoint.proceed();
+            flight.complete(result);
+            return result;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    // A call that starts after a commit must not receive a result read before it
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onResourceChanged(ResourceChangedEvent event) {
+        inFlight.clear();
+    }
+
+    private Object join(CompletableFuture<Object> flight, String name) throws Throwable {
+        count(name, "follower");
+        try {
+            return flight.get(properties.settingsFor(name).getTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            meterRegistry.counter("coalescing.timeouts", "call", name).increment();
+            throw new ServiceOverloadedException(
+                    "Timed out waiting for a shared " + name + " result, retry later",
+                    properties.getRetryAfterSeconds());
+        }
+    }
+
+    private void count(String name, String role) {
+        meterRegistry.counter("coalescing.calls", "call", name, "role", role).increment();
+    }
+}
@@ -0,0 +1,31 @@
+package com.xebia.talentacquisition.coalescing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "coalescing")
+public class CoalescingProperties {
+
+    private boolean enabled = true;
+
+    private int retryAfterSeconds = 2;
+
+    private Settings defaults = new Settings();
+
+    // Per-call overrides keyed by the @Coalesced name
+    private Map<String, Settings> calls = new HashMap<>();
+
+    public Settings settingsFor(String name) {
+        return calls.getOrDefault(name, defaults);
+    }
+
+    @Data
+    public static class Settings {
+        // How long a joined call waits for the shared result before giving up with 429
+        private long timeoutMillis = 10000;
+    }
+}
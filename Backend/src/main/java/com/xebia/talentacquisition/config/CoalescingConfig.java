@@ -0,0 +1,10 @@
+package com.xebia.talentacquisition.config;
+
+import com.xebia.talentacquisition.coalescing.CoalescingProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CoalescingProperties.class)
+public class CoalescingConfig {
+}
@@ -0,0 +1,78 @@
+package com.xebia.talentacquisition.config;
+
+import com.xebia.talentacquisition.dto.*;
+import com.xebia.talentacquisition.entity.*;
+import com.xebia.talentacquisition.mapper.CachedResourceJson;
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import com.xebia.talentacquisition.repository.ResourceSoftBlockRepository;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.TargetAware;
+
+/**
+ * Reachability metadata for the native image that AOT processing cannot infer on its own.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.ApplicationRuntimeHints.class)
+// DTOs nested inside generic wrappers (ApiResponse, PaginationResponse) are not discovered from controller signatures
+@RegisterReflectionForBinding({
+        ResourceDTO.class, SkillDTO.class, SoftBlockDTO.class, AccountDTO.class, AccountSoftBlockDTO.class, StatisticsDTO.class,
+        WeeklyATPSummaryDTO.class, BenchForecastWeekDTO.class, BatchGetDto.class, BatchGetResultDTO.class,
+        BulkOperationDto.class, BulkOperationResultDTO.class, SavedSearchDTO.class, SavedSearchMatchDTO.class,
+        SearchDto.class, SkillBasedSearchDto.class, ExportJobDTO.class, FacetsDTO.class, SuggestionDTO.class, ErrorResponse.class, ApiResponse.class,
+        PaginationResponse.class, PaginationResponse.PaginationInfo.class, PivotDTO.class, PivotDTO.Cell.class
+})
+public class NativeHintsConfig {
+
+    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Entities are also instantiated and populated by the native queries in ResourceRepository
+            for (Class<?> entity : new Class<?>[]{BaseEntity.class, Resource.class, Skill.class,
+                    ResourceSoftBlock.class, Account.class, SavedSearch.class, SavedSearchMatch.class}) {
+                hints.reflection().registerType(entity, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+            for (Class<?> enumType : new Class<?>[]{Resource.ResourceStatus.class, Skill.SkillLevel.class,
+                    Skill.SkillType.class, SavedSearch.MatchMode.class}) {
+                hints.reflection().registerType(enumType, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            // Interface projections returned by native queries, proxied by Spring Data at runtime
+            hints.proxies().registerJdkProxy(ResourceRepository.BenchInterval.class, TargetAware.class,
+                    SpringProxy.class, DecoratingProxy.class);
+            hints.reflection().registerType(ResourceRepository.BenchInterval.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.proxies().registerJdkProxy(ResourceRepository.FacetCount.class, TargetAware.class,
+                    SpringProxy.class, DecoratingProxy.class);
+            hints.reflection().registerType(ResourceRepository.FacetCount.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.proxies().registerJdkProxy(ResourceRepository.ValueCount.class, TargetAware.class,
+                    SpringProxy.class, DecoratingProxy.class);
+            hints.reflection().registerType(ResourceRepository.ValueCount.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.proxies().registerJdkProxy(ResourceRepository.CubeSource.class, TargetAware.class,
+                    SpringProxy.class, DecoratingProxy.class);
+            hints.reflection().registerType(ResourceRepository.CubeSource.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.proxies().registerJdkProxy(ResourceRepository.SuggestSource.class, TargetAware.class,
+                    SpringProxy.class, DecoratingProxy.class);
+            hints.reflection().registerType(ResourceRepository.SuggestSource.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.proxies().registerJdkProxy(ResourceSoftBlockRepository.AccountBlockCount.class, TargetAware.class,
+                    SpringProxy.class, DecoratingProxy.class);
+            hints.reflection().registerType(ResourceSoftBlockRepository.AccountBlockCount.class,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+
+            // Instantiated by Jackson from @JsonSerialize, which binding registration does not follow
+            hints.reflection().registerType(CachedResourceJson.Serializer.class,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+            hints.resources().registerPattern("skill-synonyms.txt");
+            hints.resources().registerPattern("schema.sql");
+            hints.resources().registerPattern("static/*");
+        }
+    }
+}
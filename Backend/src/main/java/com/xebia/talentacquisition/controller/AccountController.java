@@ -1,14 +1,20 @@
 package com.xebia.talentacquisition.controller;
 
 import com.xebia.talentacquisition.dto.AccountDTO;
+import com.xebia.talentacquisition.dto.AccountSoftBlockDTO;
 import com.xebia.talentacquisition.dto.ApiResponse;
+import com.xebia.talentacquisition.dto.PaginationResponse;
 import com.xebia.talentacquisition.service.AccountService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -23,4 +29,16 @@ public class AccountController {
         ApiResponse<List<AccountDTO>> response = accountService.getAllAccounts();
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/{id}/soft-blocks")
+    public ResponseEntity<PaginationResponse<AccountSoftBlockDTO>> getSoftBlocks(
+            @PathVariable Long id,
+            @RequestParam(required = false, defaultValue = "1") Integer page,
+            @RequestParam(required = false, defaultValue = "10") Integer limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate expiresFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate expiresTo) {
+        PaginationResponse<AccountSoftBlockDTO> response =
+                accountService.getSoftBlocks(id, page, limit, expiresFrom, expiresTo);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,28 @@
+package com.xebia.talentacquisition.controller;
+
+import com.xebia.talentacquisition.dto.ApiResponse;
+import com.xebia.talentacquisition.dto.PivotDTO;
+import com.xebia.talentacquisition.service.AnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    // Served from memory, e.g. ?dimensions=skill,location&filter=status:ATP
+    @GetMapping("/pivot")
+    public ResponseEntity<ApiResponse<PivotDTO>> pivot(
+            @RequestParam List<String> dimensions,
+            @RequestParam(required = false) List<String> filter,
+            @RequestParam(required = false, defaultValue = "100") Integer limit) {
+        ApiResponse<PivotDTO> response = analyticsService.pivot(dimensions, filter, limit);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,80 @@
+package com.xebia.talentacquisition.controller;
+
+import com.xebia.talentacquisition.dto.ApiResponse;
+import com.xebia.talentacquisition.dto.ExportJobDTO;
+import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.export.ExportJob;
+import com.xebia.talentacquisition.export.ExportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+@RestController
+@RequestMapping("/api/v1/resources/export-jobs")
+@RequiredArgsConstructor
+public class ExportJobController {
+
+    private final ExportJobService exportJobService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<ExportJobDTO>> submitExportJob(
+            @RequestParam(required = false, defaultValue = ExportJobService.XLSX) String format,
+            @RequestParam(required = false) Resource.ResourceStatus status,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String skill,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableTo) {
+        ApiResponse<ExportJobDTO> response = exportJobService.submit(
+                format, status, location, skill, search, availableFrom, availableTo);
+        return accepted(response);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<ExportJobDTO>> getExportJob(@PathVariable String jobId) {
+        ApiResponse<ExportJobDTO> response = exportJobService.getJob(jobId);
+        return ResponseEntity.ok(response);
+    }
+
+    // Returning the file as a Resource lets Spring answer Range requests with 206 partial content
+    @GetMapping("/{jobId}/download")
+    public ResponseEntity<org.springframework.core.io.Resource> downloadExport(
+            @PathVariable String jobId,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) throws IOException {
+        ExportJob job = exportJobService.getCompletedJob(jobId);
+        String eTag = "\"" + job.getId() + "\"";
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ExportJobService.XLSX_MEDIA_TYPE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("resources-" + job.getCreatedAt().toLocalDate() + "." + job.getFormat())
+                        .build()
+                        .toString())
+                .eTag(eTag)
+                .lastModified(job.getCompletedAt().atZone(ZoneId.systemDefault()));
+        // A resume against a different validator must restart from the first byte. Spring does not check
+        // If-Range, but it never applies Range to an InputStreamResource.
+        if (ifRange != null && !ifRange.equals(eTag)) {
+            return response.contentLength(job.getSizeBytes())
+                    .body(new InputStreamResource(Files.newInputStream(job.getFile())));
+        }
+        return response.body(new FileSystemResource(job.getFile()));
+    }
+
+    static ResponseEntity<ApiResponse<ExportJobDTO>> accepted(ApiResponse<ExportJobDTO> response) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/resources/export-jobs/" + response.getData().getJobId()))
+                .body(response);
+    }
+}
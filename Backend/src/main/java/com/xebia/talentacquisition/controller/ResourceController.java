@@ -1,15 +1,19 @@
 package com.xebia.talentacquisition.controller;
 
+import com.xebia.talentacquisition.admission.AdmissionControlled;
 import com.xebia.talentacquisition.dto.*;
 import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.export.ExportJobService;
+import com.xebia.talentacquisition.mapper.CachedResourceJson;
 import com.xebia.talentacquisition.service.ResourceService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -19,25 +23,37 @@ import java.util.Map;
 public class ResourceController {
 
     private final ResourceService resourceService;
+    private final ExportJobService exportJobService;
 
     @GetMapping
-    public ResponseEntity<PaginationResponse<ResourceDTO>> getAllResources(
+    public ResponseEntity<PaginationResponse<CachedResourceJson>> getAllResources(
             @RequestParam(required = false, defaultValue = "1") Integer page,
             @RequestParam(required = false, defaultValue = "10") Integer limit,
             @RequestParam(required = false) Resource.ResourceStatus status,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String skill,
             @RequestParam(required = false) String search,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableTo,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false, defaultValue = "asc") String sortOrder) {
-        PaginationResponse<ResourceDTO> response = resourceService.getAllResources(
-                page, limit, status, location, skill, search, sortBy, sortOrder);
+            @RequestParam(required = false, defaultValue = "asc") String sortOrder,
+            @RequestParam(required = false, defaultValue = "false") boolean facets) {
+        PaginationResponse<CachedResourceJson> response = resourceService.getAllResources(
+                page, limit, status, location, skill, search, availableFrom, availableTo, sortBy, sortOrder, facets);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{empId}")
-    public ResponseEntity<ApiResponse<ResourceDTO>> getResourceById(@PathVariable String empId) {
-        ApiResponse<ResourceDTO> response = resourceService.getResourceById(empId);
+    public ResponseEntity<ApiResponse<CachedResourceJson>> getResourceById(@PathVariable String empId) {
+        ApiResponse<CachedResourceJson> response = resourceService.getResourceById(empId);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/batch-get")
+    public ResponseEntity<ApiResponse<List<BatchGetResultDTO>>> getResourcesByEmployeeIds(
+            @Valid @RequestBody BatchGetDto batchGetDto) {
+        ApiResponse<List<BatchGetResultDTO>> response = resourceService.getResourcesByEmployeeIds(
+                batchGetDto.getEmployeeIds());
         return ResponseEntity.ok(response);
     }
 
@@ -61,6 +77,30 @@ public class ResourceController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/bulk/status")
+    public ResponseEntity<ApiResponse<List<BulkOperationResultDTO>>> bulkUpdateStatus(
+            @Valid @RequestBody BulkOperationDto bulkOperationDto) {
+        ApiResponse<List<BulkOperationResultDTO>> response = resourceService.bulkUpdateStatus(
+                bulkOperationDto.getIds(), bulkOperationDto.getStatus());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/bulk/soft-block")
+    public ResponseEntity<ApiResponse<List<BulkOperationResultDTO>>> bulkSoftBlock(
+            @Valid @RequestBody BulkOperationDto bulkOperationDto) {
+        ApiResponse<List<BulkOperationResultDTO>> response = resourceService.bulkSoftBlock(
+                bulkOperationDto.getIds(), bulkOperationDto.getAccountId(), bulkOperationDto.getBlockedUntil());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<ApiResponse<List<BulkOperationResultDTO>>> bulkDelete(
+            @Valid @RequestBody BulkOperationDto bulkOperationDto) {
+        ApiResponse<List<BulkOperationResultDTO>> response = resourceService.bulkDelete(bulkOperationDto.getIds());
+        return ResponseEntity.ok(response);
+    }
+
+    @AdmissionControlled("stats")
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse<StatisticsDTO>> getResourceStatistics() {
         ApiResponse<StatisticsDTO> response = resourceService.getResourceStatistics();
@@ -79,20 +119,36 @@ public class ResourceController {
         return ResponseEntity.ok(response);
     }
 
+    // Served from memory, for type-ahead on every keystroke
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<SuggestionDTO>>> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false, defaultValue = "10") Integer limit) {
+        ApiResponse<List<SuggestionDTO>> response = resourceService.suggest(q, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @AdmissionControlled("export")
     @GetMapping("/export")
-    public ResponseEntity<List<ResourceDTO>> exportResources(
+    public ResponseEntity<?> exportResources(
             @RequestParam(required = false, defaultValue = "csv") String format,
             @RequestParam(required = false) Resource.ResourceStatus status,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String skill,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableTo) {
+        // Spreadsheets are built by a background job, poll the returned job and download it when completed
+        if (ExportJobService.XLSX.equalsIgnoreCase(format)) {
+            return ExportJobController.accepted(exportJobService.submit(
+                    format, status, location, skill, search, availableFrom, availableTo));
+        }
         List<ResourceDTO> resources = resourceService.exportResources(
-                format, status, location, skill, search);
+                format, status, location, skill, search, availableFrom, availableTo);
         
-        // For now, return JSON. CSV/Excel export can be implemented later with proper libraries
+        // Negotiated like every other response: JSON by default, CBOR or Smile for batch consumers asking for it
         return ResponseEntity.ok()
                 .header("Content-Disposition", "attachment; filename=resources." + format)
-                .contentType(MediaType.APPLICATION_JSON)
                 .body(resources);
     }
 
@@ -105,17 +161,19 @@ public class ResourceController {
         return ResponseEntity.ok(response);
     }
 
+    @AdmissionControlled("search-by-skills")
     @PostMapping("/search-by-skills")
-    public ResponseEntity<PaginationResponse<ResourceDTO>> getResourcesBySkills(
+    public ResponseEntity<PaginationResponse<CachedResourceJson>> getResourcesBySkills(
             @RequestBody SearchDto searchDto) {
-        PaginationResponse<ResourceDTO> response = resourceService.getResourcesBySkills(searchDto);
+        PaginationResponse<CachedResourceJson> response = resourceService.getResourcesBySkills(searchDto);
         return ResponseEntity.ok(response);
     }
 
+    @AdmissionControlled("search-by-primary-secondary-skills")
     @PostMapping("/search-by-primary-secondary-skills")
-    public ResponseEntity<PaginationResponse<ResourceDTO>> searchByPrimaryAndSecondarySkills(
+    public ResponseEntity<PaginationResponse<CachedResourceJson>> searchByPrimaryAndSecondarySkills(
             @RequestBody com.xebia.talentacquisition.dto.SkillBasedSearchDto searchDto) {
-        PaginationResponse<ResourceDTO> response = resourceService.searchByPrimaryAndSecondarySkills(searchDto);
+        PaginationResponse<CachedResourceJson> response = resourceService.searchByPrimaryAndSecondarySkills(searchDto);
         return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,47 @@
+package com.xebia.talentacquisition.controller;
+
+import com.xebia.talentacquisition.dto.*;
+import com.xebia.talentacquisition.service.SavedSearchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/saved-searches")
+@RequiredArgsConstructor
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SavedSearchDTO>>> getAllSavedSearches() {
+        ApiResponse<List<SavedSearchDTO>> response = savedSearchService.getAllSavedSearches();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<SavedSearchDTO>> createSavedSearch(@Valid @RequestBody SavedSearchDTO dto) {
+        ApiResponse<SavedSearchDTO> response = savedSearchService.createSavedSearch(dto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Map<String, String>>> deleteSavedSearch(@PathVariable Long id) {
+        ApiResponse<Map<String, String>> response = savedSearchService.deleteSavedSearch(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/matches")
+    public ResponseEntity<PaginationResponse<SavedSearchMatchDTO>> getMatches(
+            @PathVariable Long id,
+            @RequestParam(required = false, defaultValue = "1") Integer page,
+            @RequestParam(required = false, defaultValue = "10") Integer limit) {
+        PaginationResponse<SavedSearchMatchDTO> response = savedSearchService.getMatches(id, page, limit);
+        return ResponseEntity.ok(response);
+    }
+}
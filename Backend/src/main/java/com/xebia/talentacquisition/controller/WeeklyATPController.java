@@ -1,11 +1,15 @@
 package com.xebia.talentacquisition.controller;
 
 import com.xebia.talentacquisition.dto.*;
+import com.xebia.talentacquisition.service.BenchForecastService;
 import com.xebia.talentacquisition.service.WeeklyATPService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -14,6 +18,7 @@ import java.util.Map;
 public class WeeklyATPController {
 
     private final WeeklyATPService weeklyATPService;
+    private final BenchForecastService benchForecastService;
 
     @GetMapping("/summary")
     public ResponseEntity<ApiResponse<WeeklyATPSummaryDTO>> getWeeklyATPSummary(
@@ -37,4 +42,12 @@ public class WeeklyATPController {
         ApiResponse<Map<String, Integer>> response = weeklyATPService.getATPByLocation(week);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/forecast")
+    public ResponseEntity<ApiResponse<List<BenchForecastWeekDTO>>> getBenchForecast(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) Integer weeks) {
+        ApiResponse<List<BenchForecastWeekDTO>> response = benchForecastService.getForecast(from, weeks);
+        return ResponseEntity.ok(response);
+    }
 }
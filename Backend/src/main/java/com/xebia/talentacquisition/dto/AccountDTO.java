@@ -19,6 +19,9 @@ public class AccountDTO {
     private String name;
     
     private String description;
+
+    // Blocks with blockedUntil today or later
+    private Long activeSoftBlocks;
     
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime createdAt;
@@ -0,0 +1,33 @@
+package com.xebia.talentacquisition.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.xebia.talentacquisition.entity.Resource;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// A resource blocked by an account, as listed from the account side
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountSoftBlockDTO {
+
+    private Long resourceId;
+
+    private String employeeId;
+
+    private String name;
+
+    private String designation;
+
+    private String location;
+
+    private Resource.ResourceStatus status;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate blockedUntil;
+}
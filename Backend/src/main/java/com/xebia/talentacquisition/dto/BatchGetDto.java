@@ -0,0 +1,21 @@
+package com.xebia.talentacquisition.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetDto {
+
+    @NotEmpty(message = "At least one employee ID is required")
+    @Builder.Default
+    private List<String> employeeIds = new ArrayList<>();
+}
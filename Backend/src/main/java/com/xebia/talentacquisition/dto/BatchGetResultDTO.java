@@ -0,0 +1,19 @@
+package com.xebia.talentacquisition.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetResultDTO {
+
+    private String employeeId;
+
+    private boolean found;
+
+    private ResourceDTO resource;
+}
@@ -0,0 +1,25 @@
+package com.xebia.talentacquisition.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenchForecastWeekDTO {
+    private String week;
+    private Integer totalATP;
+    private Integer newATP;
+
+    @Builder.Default
+    private Map<String, Integer> bySkill = new TreeMap<>();
+
+    @Builder.Default
+    private Map<String, Integer> byLocation = new TreeMap<>();
+}
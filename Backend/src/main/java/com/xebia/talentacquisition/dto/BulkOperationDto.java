@@ -0,0 +1,31 @@
+package com.xebia.talentacquisition.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.xebia.talentacquisition.entity.Resource;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationDto {
+
+    @NotEmpty(message = "At least one resource ID is required")
+    @Builder.Default
+    private List<Long> ids = new ArrayList<>();
+
+    private Resource.ResourceStatus status; // Required for bulk status change
+
+    private Long accountId; // Required for bulk soft block
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate blockedUntil; // Required for bulk soft block
+}
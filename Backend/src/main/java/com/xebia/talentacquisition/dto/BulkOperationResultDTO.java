@@ -0,0 +1,21 @@
+package com.xebia.talentacquisition.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResultDTO {
+
+    private Long id;
+
+    private Outcome outcome;
+
+    public enum Outcome {
+        UPDATED, SOFT_BLOCKED, DELETED, NOT_FOUND
+    }
+}
@@ -0,0 +1,45 @@
+package com.xebia.talentacquisition.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.xebia.talentacquisition.export.ExportJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobDTO {
+
+    private String jobId;
+
+    private String format;
+
+    private ExportJob.Status status;
+
+    private Long rowsWritten;
+
+    // Null until the worker has counted the matching rows
+    private Long totalRows;
+
+    private Integer progressPercent;
+
+    private Long sizeBytes;
+
+    private String downloadUrl;
+
+    private String error;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,26 @@
+package com.xebia.talentacquisition.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetsDTO {
+
+    // Each map is ordered by count, highest first, and counts resources matching the current filters
+    @Builder.Default
+    private Map<String, Long> status = new LinkedHashMap<>();
+
+    @Builder.Default
+    private Map<String, Long> location = new LinkedHashMap<>();
+
+    @Builder.Default
+    private Map<String, Long> skills = new LinkedHashMap<>();
+}
@@ -1,5 +1,6 @@
 package com.xebia.talentacquisition.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,6 +15,10 @@ import java.util.List;
 public class PaginationResponse<T> {
     private List<T> data;
     private PaginationInfo pagination;
+
+    // Only present when the request asked for facets
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private FacetsDTO facets;
     
     @Data
     @Builder
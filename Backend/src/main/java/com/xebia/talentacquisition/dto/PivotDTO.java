@@ -0,0 +1,34 @@
+package com.xebia.talentacquisition.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PivotDTO {
+
+    // Requested dimensions, in the order of each cell's values
+    private List<String> dimensions;
+
+    // Resources matching the filters; with the skill dimension a resource counts once per skill
+    private long total;
+
+    // Highest count first, cut to the requested limit
+    private List<Cell> cells;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Cell {
+        // null where the resource has no value for the dimension
+        private List<String> values;
+        private int count;
+    }
+}
@@ -0,0 +1,42 @@
+package com.xebia.talentacquisition.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.entity.SavedSearch;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchDTO {
+
+    private Long id;
+
+    @NotBlank(message = "Name is required")
+    private String name;
+
+    private String createdBy;
+
+    @Builder.Default
+    private List<String> skills = new ArrayList<>();
+
+    private SavedSearch.MatchMode matchMode; // Defaults to ANY
+
+    private String location;
+
+    private Integer experience; // Same semantics as SearchDto.experience
+
+    private Resource.ResourceStatus status;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,23 @@
+package com.xebia.talentacquisition.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchMatchDTO {
+
+    private Long resourceId;
+
+    private ResourceDTO resource; // Null when the resource has since been deleted
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime matchedAt;
+}
@@ -1,10 +1,12 @@
 package com.xebia.talentacquisition.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,6 +23,16 @@ public class SearchDto {
     
     private Integer experience; // Filter by total experience
     
+    // Availability window: resources whose [availabilityDate, releaseDate] overlaps it
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate availableFrom;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate availableTo;
+    
+    // Also return status, location and skill counts for the matching resources
+    private boolean includeFacets;
+    
     @Builder.Default
     private Integer page = 1;
     
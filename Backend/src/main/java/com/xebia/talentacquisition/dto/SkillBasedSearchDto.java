@@ -1,10 +1,12 @@
 package com.xebia.talentacquisition.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -26,6 +28,16 @@ public class SkillBasedSearchDto {
     
     private Integer experience; // Total experience
     
+    // Availability window: resources whose [availabilityDate, releaseDate] overlaps it
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate availableFrom;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate availableTo;
+    
+    // Also return status, location and skill counts for the matching resources
+    private boolean includeFacets;
+    
     // Map of skill name to required years of experience for that skill
     // Example: {"Java": 3, "Spring Boot": 2}
     @Builder.Default
@@ -0,0 +1,29 @@
+package com.xebia.talentacquisition.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SuggestionDTO {
+
+    public enum Type {
+        SKILL, DESIGNATION, NAME, EMPLOYEE_ID
+    }
+
+    private Type type;
+
+    private String value;
+
+    // Set for NAME and EMPLOYEE_ID suggestions
+    private String employeeId;
+
+    // Number of resources with this SKILL or DESIGNATION
+    private Integer count;
+}
@@ -6,8 +6,10 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,6 +24,8 @@ import java.util.List;
     @Index(name = "idx_resource_location", columnList = "location"),
     @Index(name = "idx_resource_employee_id", columnList = "employee_id")
 })
+// Deleted resources stay in the table until ResourceArchiver moves them out; entity queries never see them
+@SQLRestriction("deleted_at IS NULL")
 public class Resource extends BaseEntity {
 
     @Id
@@ -29,13 +33,15 @@ public class Resource extends BaseEntity {
     @Column(name = "id")
     private Long id;
 
-    @Column(name = "employee_id", nullable = false, unique = true, length = 50)
+    // Unique among live resources only, through a partial index in schema.sql
+    @Column(name = "employee_id", nullable = false, length = 50)
     private String employeeId;
 
     @Column(name = "name", nullable = false, length = 255)
     private String name;
 
-    @Column(name = "email", nullable = false, unique = true, length = 255)
+    // Unique among live resources only, like employeeId
+    @Column(name = "email", nullable = false, length = 255)
     private String email;
 
     @Column(name = "designation", length = 100)
@@ -59,13 +65,19 @@ public class Resource extends BaseEntity {
     private Integer totalExperience;
 
     @ElementCollection
-    @CollectionTable(name = "resource_skills", joinColumns = @JoinColumn(name = "resource_id"))
+    @CollectionTable(name = "resource_skills", joinColumns = @JoinColumn(name = "resource_id"), indexes = {
+        @Index(name = "idx_resource_skills_resource_skill", columnList = "resource_id, skill_name"),
+        @Index(name = "idx_resource_skills_skill", columnList = "skill_name")
+    })
     @AttributeOverrides({
         @AttributeOverride(name = "name", column = @Column(name = "skill_name")),
         @AttributeOverride(name = "level", column = @Column(name = "skill_level")),
         @AttributeOverride(name = "type", column = @Column(name = "skill_type")),
         @AttributeOverride(name = "yearsOfExperience", column = @Column(name = "years_of_experience"))
     })
+    // Rows are addressed by position, so an edit only writes the positions that changed instead of recreating
+    // the whole collection
+    @OrderColumn(name = "skill_order")
     @Builder.Default
     private List<Skill> skills = new ArrayList<>();
 
@@ -77,6 +89,9 @@ public class Resource extends BaseEntity {
     @Column(name = "ctc_currency", length = 10)
     private String ctcCurrency;
 
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "resource", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<ResourceSoftBlock> softBlocks = new ArrayList<>();
@@ -16,7 +16,8 @@ import java.time.LocalDate;
 @EqualsAndHashCode(callSuper = true)
 @Entity
 @Table(name = "resource_soft_blocked_accounts", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"resource_id", "account_id"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"resource_id", "account_id"}),
+       indexes = @Index(name = "idx_soft_block_account_until", columnList = "account_id, blocked_until"))
 public class ResourceSoftBlock extends BaseEntity {
 
     @Id
@@ -0,0 +1,57 @@
+package com.xebia.talentacquisition.entity;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "saved_searches")
+public class SavedSearch extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "name", nullable = false, length = 255)
+    private String name;
+
+    @Column(name = "created_by", length = 255)
+    private String createdBy;
+
+    @ElementCollection
+    @CollectionTable(name = "saved_search_skills", joinColumns = @JoinColumn(name = "saved_search_id"))
+    @Column(name = "skill_name", nullable = false, length = 100)
+    @Builder.Default
+    private List<String> skills = new ArrayList<>();
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "match_mode", nullable = false, length = 20)
+    @Builder.Default
+    private MatchMode matchMode = MatchMode.ANY;
+
+    @Column(name = "location", length = 100)
+    private String location;
+
+    @Column(name = "experience")
+    private Integer experience;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 50)
+    private Resource.ResourceStatus status;
+
+    // ANY mirrors /search-by-skills, ALL mirrors the primary skills of /search-by-primary-secondary-skills
+    public enum MatchMode {
+        ANY, ALL
+    }
+}
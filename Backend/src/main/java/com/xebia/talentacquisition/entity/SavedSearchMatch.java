@@ -0,0 +1,30 @@
+package com.xebia.talentacquisition.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "saved_search_matches",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"saved_search_id", "resource_id"}),
+       indexes = @Index(name = "idx_saved_search_match_search_created", columnList = "saved_search_id, created_at"))
+public class SavedSearchMatch extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "saved_search_id", nullable = false)
+    private SavedSearch savedSearch;
+
+    @Column(name = "resource_id", nullable = false)
+    private Long resourceId;
+}
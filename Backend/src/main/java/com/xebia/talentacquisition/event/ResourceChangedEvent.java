@@ -0,0 +1,19 @@
+package com.xebia.talentacquisition.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Published by every write to resources, their skills or their soft blocks. Listeners that keep
+ * derived state (indexes, caches, snapshots) react to it after the surrounding transaction commits.
+ */
+public record ResourceChangedEvent(Set<Long> resourceIds, boolean deleted) {
+
+    public static ResourceChangedEvent updated(Collection<Long> resourceIds) {
+        return new ResourceChangedEvent(Set.copyOf(resourceIds), false);
+    }
+
+    public static ResourceChangedEvent deleted(Collection<Long> resourceIds) {
+        return new ResourceChangedEvent(Set.copyOf(resourceIds), true);
+    }
+}
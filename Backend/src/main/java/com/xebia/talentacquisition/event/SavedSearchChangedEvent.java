@@ -0,0 +1,16 @@
+package com.xebia.talentacquisition.event;
+
+/**
+ * Published when a saved search is created or deleted, so the percolator only picks the change up once the
+ * surrounding transaction commits.
+ */
+public record SavedSearchChangedEvent(Long savedSearchId, boolean deleted) {
+
+    public static SavedSearchChangedEvent saved(Long savedSearchId) {
+        return new SavedSearchChangedEvent(savedSearchId, false);
+    }
+
+    public static SavedSearchChangedEvent deleted(Long savedSearchId) {
+        return new SavedSearchChangedEvent(savedSearchId, true);
+    }
+}
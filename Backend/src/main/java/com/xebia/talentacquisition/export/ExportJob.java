@@ -0,0 +1,73 @@
+package com.xebia.talentacquisition.export;
+
+import com.xebia.talentacquisition.entity.Resource;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * State of one background export. Written by the worker thread and read by status polls, so every
+ * mutable field is volatile or atomic.
+ */
+@Getter
+public class ExportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    // skillName is already resolved to the comma separated form the repository queries expect
+    public record Filters(Resource.ResourceStatus status, String location, String skillName, String search,
+                          LocalDate availableFrom, LocalDate availableTo) {
+    }
+
+    private final String id;
+    private final String format;
+    private final Filters filters;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong rowsWritten = new AtomicLong();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile long totalRows = -1;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime completedAt;
+    private volatile Path file;
+    private volatile long sizeBytes;
+    private volatile String error;
+
+    ExportJob(String id, String format, Filters filters) {
+        this.id = id;
+        this.format = format;
+        this.filters = filters;
+    }
+
+    void start(long totalRows) {
+        this.totalRows = totalRows;
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    void addRows(int rows) {
+        rowsWritten.addAndGet(rows);
+    }
+
+    void complete(Path file, long sizeBytes) {
+        this.file = file;
+        this.sizeBytes = sizeBytes;
+        this.completedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    void fail(String error) {
+        this.error = error;
+        this.completedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
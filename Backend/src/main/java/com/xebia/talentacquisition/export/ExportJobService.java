@@ -0,0 +1,260 @@
+package com.xebia.talentacquisition.export;
+
+import com.xebia.talentacquisition.dto.ApiResponse;
+import com.xebia.talentacquisition.dto.ExportJobDTO;
+import com.xebia.talentacquisition.dto.ResourceDTO;
+import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.exception.ServiceOverloadedException;
+import com.xebia.talentacquisition.mapper.ResourceMapper;
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import com.xebia.talentacquisition.search.SkillResolver;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs resource exports in the background. Each job walks the matching ids in keyset batches, loads and
+ * maps one batch per short read-only transaction and appends it to a streaming spreadsheet in the spool
+ * directory, so neither a request thread nor a connection is held for the length of the export and
+ * memory does not grow with the row count. Jobs live in memory on the instance that accepted them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExportJobService {
+
+    public static final String XLSX = "xlsx";
+    public static final String XLSX_MEDIA_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private final ResourceRepository resourceRepository;
+    private final ResourceMapper resourceMapper;
+    private final SkillResolver skillResolver;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${export.spool-dir:${java.io.tmpdir}/talentacquisition-exports}")
+    private String spoolDirectory;
+
+    @Value("${export.workers:1}")
+    private int workers;
+
+    // Jobs waiting for a worker, submissions beyond this are rejected with 429
+    @Value("${export.queue-capacity:8}")
+    private int queueCapacity;
+
+    @Value("${export.batch-size:500}")
+    private int batchSize;
+
+    // Spreadsheet rows kept in memory before they are flushed to the temp file
+    @Value("${export.row-window:100}")
+    private int rowWindow;
+
+    @Value("${export.retention-minutes:60}")
+    private long retentionMinutes;
+
+    @Value("${export.retry-after-seconds:30}")
+    private int retryAfterSeconds;
+
+    private Path spoolDir;
+    private ThreadPoolExecutor executor;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void start() throws IOException {
+        spoolDir = Files.createDirectories(Path.of(spoolDirectory));
+        // Jobs do not survive a restart, so anything left in the spool directory is orphaned
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spoolDir, "*.{xlsx,part}")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        AtomicInteger threads = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "export-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    public ApiResponse<ExportJobDTO> submit(
+            String format, Resource.ResourceStatus status,
+            String location, String skill, String search, LocalDate availableFrom, LocalDate availableTo) {
+        if (!XLSX.equalsIgnoreCase(format)) {
+            throw new RuntimeException("Unsupported export job format: " + format);
+        }
+        if (availableFrom != null && availableTo != null && availableFrom.isAfter(availableTo)) {
+            throw new RuntimeException("availableFrom must not be after availableTo");
+        }
+        String skillName = Strings.isNotBlank(skill) ? skillResolver.resolveAll(List.of(skill)).skillsParam() : skill;
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), XLSX,
+                new ExportJob.Filters(status, location, skillName, search, availableFrom, availableTo));
+
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new ServiceOverloadedException("Too many export jobs are queued, please retry later", retryAfterSeconds);
+        }
+        return ApiResponse.<ExportJobDTO>builder()
+                .data(toDTO(job))
+                .build();
+    }
+
+    public ApiResponse<ExportJobDTO> getJob(String jobId) {
+        return ApiResponse.<ExportJobDTO>builder()
+                .data(toDTO(findJob(jobId)))
+                .build();
+    }
+
+    public ExportJob getCompletedJob(String jobId) {
+        ExportJob job = findJob(jobId);
+        if (job.getStatus() != ExportJob.Status.COMPLETED) {
+            throw new RuntimeException("Export job " + jobId + " is " + job.getStatus() + ", not ready for download");
+        }
+        return job;
+    }
+
+    @Scheduled(fixedDelayString = "${export.cleanup-interval-ms:300000}")
+    public void removeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> {
+            if (!job.isFinished() || job.getCompletedAt().isAfter(cutoff)) {
+                return false;
+            }
+            if (job.getFile() != null) {
+                deleteQuietly(job.getFile());
+            }
+            return true;
+        });
+    }
+
+    private void run(ExportJob job) {
+        ExportJob.Filters filters = job.getFilters();
+        String status = filters.status() != null ? filters.status().name() : null;
+        String availableFrom = dateParam(filters.availableFrom());
+        String availableTo = dateParam(filters.availableTo());
+        Path part = spoolDir.resolve(job.getId() + ".part");
+        try {
+            job.start(resourceRepository.findWithFilters(status, filters.location(), filters.skillName(),
+                    filters.search(), availableFrom, availableTo, PageRequest.of(0, 1)).getTotalElements());
+
+            try (ResourceSpreadsheet spreadsheet = new ResourceSpreadsheet(rowWindow)) {
+                long afterId = 0;
+                List<Long> ids;
+                while (!(ids = resourceRepository.findIdsWithFilters(status, filters.location(), filters.skillName(),
+                        filters.search(), availableFrom, availableTo, afterId, batchSize)).isEmpty()) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new InterruptedIOException("Export interrupted by shutdown");
+                    }
+                    List<ResourceDTO> rows = loadBatch(ids);
+                    rows.forEach(spreadsheet::append);
+                    job.addRows(rows.size());
+                    afterId = ids.get(ids.size() - 1);
+                }
+                spreadsheet.writeTo(part);
+            }
+
+            Path file = Files.move(part, spoolDir.resolve(job.getId() + "." + XLSX),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.complete(file, Files.size(file));
+            log.info("Export job {} wrote {} rows ({} bytes)", job.getId(), job.getRowsWritten().get(), job.getSizeBytes());
+        } catch (Exception e) {
+            log.warn("Export job {} failed", job.getId(), e);
+            deleteQuietly(part);
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    // Entities are detached when the transaction ends, so the persistence context never holds more than a batch
+    private List<ResourceDTO> loadBatch(List<Long> ids) {
+        return readOnlyTransaction.execute(tx -> resourceRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(Resource::getId))
+                .map(resourceMapper::toDTO)
+                .toList());
+    }
+
+    private ExportJob findJob(String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("Export job not found with id: " + jobId);
+        }
+        return job;
+    }
+
+    private ExportJobDTO toDTO(ExportJob job) {
+        long rows = job.getRowsWritten().get();
+        long total = job.getTotalRows();
+        Integer progress = switch (job.getStatus()) {
+            case QUEUED -> 0;
+            case COMPLETED -> 100;
+            case RUNNING -> total > 0 ? (int) Math.min(99, rows * 100 / total) : 0;
+            case FAILED -> null;
+        };
+        return ExportJobDTO.builder()
+                .jobId(job.getId())
+                .format(job.getFormat())
+                .status(job.getStatus())
+                .rowsWritten(rows)
+                .totalRows(total >= 0 ? total : null)
+                .progressPercent(progress)
+                .sizeBytes(job.getStatus() == ExportJob.Status.COMPLETED ? job.getSizeBytes() : null)
+                .downloadUrl(job.getStatus() == ExportJob.Status.COMPLETED
+                        ? "/api/v1/resources/export-jobs/" + job.getId() + "/download" : null)
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
+    private String dateParam(LocalDate date) {
+        return date != null ? date.toString() : null;
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete export file {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.xebia.talentacquisition.export;
+
+import com.xebia.talentacquisition.dto.ResourceDTO;
+import com.xebia.talentacquisition.dto.SkillDTO;
+import com.xebia.talentacquisition.dto.SoftBlockDTO;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming XLSX writer for resources. Only the last rowWindow rows are kept in memory, older rows are
+ * flushed to a compressed temp file, so memory stays flat however many rows are appended.
+ */
+class ResourceSpreadsheet implements Closeable {
+
+    private static final String[] HEADERS = {"Employee ID", "Name", "Email", "Designation", "Location", "Status",
+            "Availability Date", "Release Date", "Total Experience", "Skills", "Soft Blocks", "CTC", "CTC Currency"};
+    private static final int[] COLUMN_WIDTHS = {14, 28, 34, 26, 16, 14, 18, 14, 16, 60, 40, 12, 12};
+
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private final CellStyle dateStyle;
+    private int nextRow;
+
+    ResourceSpreadsheet(int rowWindow) {
+        workbook = new SXSSFWorkbook(rowWindow);
+        workbook.setCompressTempFiles(true);
+        sheet = workbook.createSheet("Resources");
+
+        dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+        CellStyle headerStyle = workbook.createCellStyle();
+        Font bold = workbook.createFont();
+        bold.setBold(true);
+        headerStyle.setFont(bold);
+
+        Row header = sheet.createRow(nextRow++);
+        for (int i = 0; i < HEADERS.length; i++) {
+            header.createCell(i).setCellValue(HEADERS[i]);
+            header.getCell(i).setCellStyle(headerStyle);
+            // Fixed widths, autosizing would need every row in memory
+            sheet.setColumnWidth(i, COLUMN_WIDTHS[i] * 256);
+        }
+        sheet.createFreezePane(0, 1);
+    }
+
+    void append(ResourceDTO resource) {
+        Row row = sheet.createRow(nextRow++);
+        int column = 0;
+        text(row, column++, resource.getEmployeeId());
+        text(row, column++, resource.getName());
+        text(row, column++, resource.getEmail());
+        text(row, column++, resource.getDesignation());
+        text(row, column++, resource.getLocation());
+        text(row, column++, resource.getStatus() != null ? resource.getStatus().name() : null);
+        date(row, column++, resource.getAvailabilityDate());
+        date(row, column++, resource.getReleaseDate());
+        if (resource.getTotalExperience() != null) {
+            row.createCell(column).setCellValue(resource.getTotalExperience());
+        }
+        column++;
+        text(row, column++, resource.getSkills().stream()
+                .map(SkillDTO::getName)
+                .collect(Collectors.joining(", ")));
+        text(row, column++, resource.getSoftBlocks().stream()
+                .filter(Objects::nonNull)
+                .map(this::describe)
+                .collect(Collectors.joining(", ")));
+        if (resource.getCtc() != null) {
+            row.createCell(column).setCellValue(resource.getCtc());
+        }
+        column++;
+        text(row, column, resource.getCtcCurrency());
+    }
+
+    void writeTo(Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            workbook.write(out);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Also deletes the temp files holding the flushed rows
+        workbook.close();
+    }
+
+    private String describe(SoftBlockDTO softBlock) {
+        return softBlock.getAccountName() + " until " + softBlock.getBlockedUntil();
+    }
+
+    private void text(Row row, int column, String value) {
+        if (value != null && !value.isEmpty()) {
+            row.createCell(column).setCellValue(value);
+        }
+    }
+
+    private void date(Row row, int column, LocalDate value) {
+        if (value != null) {
+            row.createCell(column).setCellValue(value);
+            row.getCell(column).setCellStyle(dateStyle);
+        }
+    }
+}
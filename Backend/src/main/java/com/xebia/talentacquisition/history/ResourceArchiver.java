@@ -0,0 +1,86 @@
+package com.xebia.talentacquisition.history;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Moves resources that were deleted longer ago than the grace period, together with their skills and soft
+ * blocks, from the live tables into the archive tables created by schema.sql. Each batch is a single
+ * statement that commits on its own, so locks are held briefly and every batch leaves only a bounded number
+ * of dead tuples behind for vacuum.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResourceArchiver {
+
+    private static final String RESOURCE_COLUMNS = "id, created_at, updated_at, employee_id, name, email, designation, " +
+            "location, status, availability_date, release_date, total_experience, ctc, ctc_currency, deleted_at";
+    private static final String SKILL_COLUMNS = "resource_id, skill_order, skill_name, skill_level, skill_type, " +
+            "years_of_experience";
+    private static final String SOFT_BLOCK_COLUMNS = "id, created_at, updated_at, resource_id, account_id, blocked_until";
+
+    // Rows referencing the batch are deleted in the same statement, so the foreign keys hold when it ends
+    private static final String ARCHIVE_BATCH = "WITH batch AS (" +
+            "SELECT id FROM resources WHERE deleted_at < ? ORDER BY deleted_at, id LIMIT ? FOR UPDATE SKIP LOCKED), " +
+            "moved_skills AS (DELETE FROM resource_skills s USING batch WHERE s.resource_id = batch.id " +
+            "RETURNING " + prefixed("s", SKILL_COLUMNS) + "), " +
+            "archived_skills AS (INSERT INTO resource_skills_archive (" + SKILL_COLUMNS + ") " +
+            "SELECT " + SKILL_COLUMNS + " FROM moved_skills), " +
+            "moved_blocks AS (DELETE FROM resource_soft_blocked_accounts sb USING batch WHERE sb.resource_id = batch.id " +
+            "RETURNING " + prefixed("sb", SOFT_BLOCK_COLUMNS) + "), " +
+            "archived_blocks AS (INSERT INTO resource_soft_blocked_accounts_archive (" + SOFT_BLOCK_COLUMNS + ") " +
+            "SELECT " + SOFT_BLOCK_COLUMNS + " FROM moved_blocks), " +
+            "moved AS (DELETE FROM resources r USING batch WHERE r.id = batch.id " +
+            "RETURNING " + prefixed("r", RESOURCE_COLUMNS) + ") " +
+            "INSERT INTO resources_archive (" + RESOURCE_COLUMNS + ") SELECT " + RESOURCE_COLUMNS + " FROM moved";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${archive.enabled:true}")
+    private boolean enabled;
+
+    // Days a deleted resource stays in the live table before it is archived
+    @Value("${archive.after-days:30}")
+    private int afterDays;
+
+    @Value("${archive.batch-size:500}")
+    private int batchSize;
+
+    // Caps one run; whatever is left is picked up by the next run
+    @Value("${archive.max-batches:200}")
+    private int maxBatches;
+
+    @Scheduled(cron = "${archive.cron:0 45 3 * * *}")
+    public void archiveDeletedResources() {
+        if (enabled) {
+            archiveDeletedBefore(LocalDateTime.now().minusDays(afterDays));
+        }
+    }
+
+    public int archiveDeletedBefore(LocalDateTime deletedBefore) {
+        int archived = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            int moved = jdbcTemplate.update(ARCHIVE_BATCH, Timestamp.valueOf(deletedBefore), batchSize);
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} resources deleted before {}", archived, deletedBefore);
+        }
+        return archived;
+    }
+
+    private static String prefixed(String alias, String columns) {
+        return alias + "." + columns.replace(", ", ", " + alias + ".");
+    }
+}
@@ -0,0 +1,53 @@
+package com.xebia.talentacquisition.history;
+
+import com.xebia.talentacquisition.entity.Resource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Append-only writer and reader for resource_status_transitions. Rows are never updated or deleted;
+ * history is only removed by dropping whole monthly partitions.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatusTransitionLog {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void record(Long resourceId, Resource.ResourceStatus fromStatus, Resource.ResourceStatus toStatus) {
+        if (fromStatus == toStatus) {
+            return;
+        }
+        jdbcTemplate.update(
+                "INSERT INTO resource_status_transitions (resource_id, from_status, to_status) VALUES (?, ?, ?)",
+                resourceId, fromStatus != null ? fromStatus.name() : null, toStatus.name());
+    }
+
+    // Must run before the status update itself, while the previous statuses are still in place
+    public int recordBulk(Collection<Long> resourceIds, Resource.ResourceStatus toStatus) {
+        return jdbcTemplate.update(
+                "INSERT INTO resource_status_transitions (resource_id, from_status, to_status) " +
+                "SELECT r.id, r.status, ? FROM resources r WHERE r.id = ANY(?) AND r.status <> ?",
+                toStatus.name(), resourceIds.toArray(Long[]::new), toStatus.name());
+    }
+
+    // Distinct resources that moved into each status during [from, to)
+    public Map<String, Integer> countTransitionsByStatus(LocalDate from, LocalDate to) {
+        Map<String, Integer> counts = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT t.to_status, COUNT(DISTINCT t.resource_id) FROM resource_status_transitions t " +
+                "WHERE t.changed_at >= ? AND t.changed_at < ? GROUP BY t.to_status",
+                rs -> {
+                    counts.put(rs.getString(1), rs.getInt(2));
+                },
+                Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()));
+        return counts;
+    }
+}
@@ -0,0 +1,92 @@
+package com.xebia.talentacquisition.history;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Keeps monthly partitions of resource_status_transitions created ahead of time and, when a retention
+ * period is configured, detaches and drops the partitions that fall entirely outside of it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatusTransitionPartitionMaintainer {
+
+    private static final String TABLE = "resource_status_transitions";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${status-log.partitions-ahead:3}")
+    private int partitionsAhead;
+
+    // 0 keeps the whole history
+    @Value("${status-log.retention-months:0}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${status-log.maintenance-cron:0 15 3 * * *}")
+    public void maintainPartitions() {
+        // changed_at defaults to the database's now(), so its clock and time zone decide the current month
+        YearMonth current = YearMonth.from(jdbcTemplate.queryForObject(
+                "SELECT CAST(date_trunc('month', now()) AS date)", LocalDate.class));
+        for (int i = 0; i <= partitionsAhead; i++) {
+            createPartition(current.plusMonths(i));
+        }
+        if (retentionMonths > 0) {
+            dropPartitionsBefore(current.minusMonths(retentionMonths));
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        String sql = "CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF " + TABLE +
+                " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (RuntimeException e) {
+            // Typically rows for this month already landed in the default partition
+            log.warn("Could not create partition {}: {}", partitionName(month), e.getMessage());
+        }
+    }
+
+    private void dropPartitionsBefore(YearMonth oldestKept) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = CAST(? AS regclass)", String.class, TABLE);
+        for (String partition : partitions) {
+            YearMonth month = monthOf(partition);
+            if (month != null && month.isBefore(oldestKept)) {
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Dropped status transition partition {}", partition);
+            }
+        }
+    }
+
+    private static String partitionName(YearMonth month) {
+        return TABLE + "_" + month.format(SUFFIX);
+    }
+
+    private static YearMonth monthOf(String partition) {
+        if (!partition.startsWith(TABLE + "_")) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(TABLE.length() + 1), SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.xebia.talentacquisition.mapper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * A resource as the JSON the response ObjectMapper wrote for its ResourceDTO, returned by the list and detail
+ * endpoints. It is written into the response as is; code that needs the fields maps the entity instead.
+ */
+@JsonSerialize(using = CachedResourceJson.Serializer.class)
+public record CachedResourceJson(String json) {
+
+    public static class Serializer extends StdSerializer<CachedResourceJson> {
+
+        // The generator may be for a binary format (CBOR, Smile), but the cached text is always JSON
+        private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+        public Serializer() {
+            super(CachedResourceJson.class);
+        }
+
+        @Override
+        public void serialize(CachedResourceJson value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            if (gen instanceof JsonGeneratorImpl) {
+                gen.writeRawValue(value.json());
+                return;
+            }
+            try (JsonParser parser = JSON_FACTORY.createParser(value.json())) {
+                parser.nextToken();
+                gen.copyCurrentStructure(parser);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.xebia.talentacquisition.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.xebia.talentacquisition.dto.ResourceDTO;
+import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.event.ResourceChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+/**
+ * Serialized JSON of each resource for list and detail responses, so unchanged rows skip both mapping and
+ * serialization. An entry is only used while its updatedAt matches the entity's, and every write path
+ * moves updatedAt; committed changes also drop the entry, which covers child rows such as soft blocks.
+ * The cache is bounded by the total length of the JSON.
+ */
+@Component
+public class ResourceJsonCache {
+
+    // Rough per-entry overhead on top of the JSON bytes (key, timestamp, cache node)
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final ResourceMapper resourceMapper;
+    private final ObjectWriter writer;
+    private final boolean enabled;
+    private final Cache<Long, Fragment> cache;
+
+    public ResourceJsonCache(ResourceMapper resourceMapper,
+                             ObjectMapper objectMapper,
+                             @Value("${resource-json-cache.enabled:true}") boolean enabled,
+                             @Value("${resource-json-cache.max-bytes:67108864}") long maxBytes,
+                             MeterRegistry meterRegistry) {
+        this.resourceMapper = resourceMapper;
+        this.writer = objectMapper.writerFor(ResourceDTO.class);
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .<Long, Fragment>weigher((id, fragment) -> fragment.json().length() + ENTRY_OVERHEAD_BYTES)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "resourceJson");
+    }
+
+    private record Fragment(LocalDateTime updatedAt, String json) {
+    }
+
+    public CachedResourceJson toJson(Resource resource) {
+        if (!enabled || resource.getId() == null || resource.getUpdatedAt() == null) {
+            return new CachedResourceJson(serialize(resourceMapper.toDTO(resource)));
+        }
+        Fragment fragment = cache.getIfPresent(resource.getId());
+        if (fragment == null || !fragment.updatedAt().equals(resource.getUpdatedAt())) {
+            fragment = new Fragment(resource.getUpdatedAt(), serialize(resourceMapper.toDTO(resource)));
+            cache.put(resource.getId(), fragment);
+        }
+        return new CachedResourceJson(fragment.json());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onResourceChanged(ResourceChangedEvent event) {
+        cache.invalidateAll(event.resourceIds());
+    }
+
+    private String serialize(ResourceDTO dto) {
+        try {
+            return writer.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
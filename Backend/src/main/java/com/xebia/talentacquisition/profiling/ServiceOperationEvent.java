@@ -0,0 +1,29 @@
+package com.xebia.talentacquisition.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one service, mapper or repository call. Nested calls produce nested events on
+ * the same thread, so a recording shows how a request splits into repository queries, mapping (including the
+ * lazy loads it triggers) and the remaining time. Disabled unless a recording enables it (see jfr/always-on.jfc).
+ */
+@Name("com.xebia.talentacquisition.ServiceOperation")
+@Label("Service Operation")
+@Category({"Talent Acquisition", "Service"})
+@Description("A call to a service, mapper or repository method")
+@StackTrace(false)
+public class ServiceOperationEvent extends jdk.jfr.Event {
+
+    @Label("Component")
+    String component;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Failed")
+    boolean failed;
+}
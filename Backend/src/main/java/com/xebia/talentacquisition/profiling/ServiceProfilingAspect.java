@@ -0,0 +1,55 @@
+package com.xebia.talentacquisition.profiling;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps every public service, mapper and repository method in a {@link ServiceOperationEvent}. When no recording enables
+ * the event the cost is one allocation the JIT usually removes and an isEnabled check. Ordered inside the
+ * coalescing advice, so followers that wait for a leader do not record the leader's work again, and outside
+ * the transaction advice, so commit time is included.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ServiceProfilingAspect {
+
+    @Around("execution(public * *(..)) && (within(com.xebia.talentacquisition.service..*) " +
+            "|| within(com.xebia.talentacquisition.mapper..*)) " +
+            "|| execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        boolean failed = true;
+        try {
+            Object result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.component = component(joinPoint);
+                event.operation = joinPoint.getSignature().getName();
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    // Inherited repository methods such as findById are declared on CrudRepository, so name the proxied interface
+    private static String component(ProceedingJoinPoint joinPoint) {
+        Class<?> declaring = joinPoint.getSignature().getDeclaringType();
+        if (declaring.isInterface()) {
+            return AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis())[0].getSimpleName();
+        }
+        return declaring.getSimpleName();
+    }
+}
@@ -1,41 +1,223 @@
 package com.xebia.talentacquisition.repository;
 
 import com.xebia.talentacquisition.entity.Resource;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ResourceRepository extends JpaRepository<Resource, Long> {
 
+    // Overlap with the requested availability window, matched by the GiST index from schema.sql. Queries that
+    // take a window come in a variant without it, chosen by a default method, rather than OR-ing the predicate
+    // away when both bounds are null: a generic plan cannot drop that OR and would never use the index.
+    String AVAILABLE_IN_WINDOW = " AND resource_availability(r.status, r.availability_date, r.release_date) && " +
+           "daterange(CAST(:availableFrom AS date), CAST(:availableTo AS date), '[]')";
+
+    // WHERE predicates of the /resources filters (status, location, skills, free text), shared by the page,
+    // the export and the facet queries so they always select the same rows
+    String RESOURCE_FILTERS = "r.deleted_at IS NULL AND (:status IS NULL OR r.status::text = :status) AND " +
+           "(:location IS NULL OR r.location::text = :location) AND " +
+           "(:skillName IS NULL OR EXISTS (SELECT 1 FROM resource_skills rs WHERE rs.resource_id = r.id AND rs.skill_name::text = ANY(string_to_array(:skillName, ',')))) AND " +
+           "(:search IS NULL OR " +
+           "LOWER(r.name::text) LIKE LOWER('%' || :search || '%') OR " +
+           "LOWER(r.email::text) LIKE LOWER('%' || :search || '%') OR " +
+           "LOWER(r.designation::text) LIKE LOWER('%' || :search || '%') OR " +
+           "EXISTS (SELECT 1 FROM resource_skills rs WHERE rs.resource_id = r.id AND LOWER(rs.skill_name::text) LIKE LOWER('%' || :search || '%')))";
+
+    // WHERE predicates of /search-by-skills, shared by its page, count and facet queries
+    String SKILL_SEARCH_FILTERS = "r.deleted_at IS NULL AND (:location IS NULL OR r.location::text = :location) AND " +
+           "(:experience IS NULL OR r.total_experience >= (:experience - 5)) AND " +
+           "(:skillNames IS NULL OR :skillNames = '' OR " +
+           "EXISTS (SELECT 1 FROM resource_skills rs WHERE rs.resource_id = r.id AND rs.skill_name::text = ANY(string_to_array(:skillNames, ','))))";
+
+    // WHERE predicates of /search-by-primary-secondary: every primary skill group must be matched
+    String PRIMARY_SKILL_FILTERS = "r.deleted_at IS NULL AND (:location IS NULL OR r.location::text = :location) AND " +
+           "(:experience IS NULL OR r.total_experience >= (:experience - 5)) AND " +
+           "(:primarySkills IS NULL OR :primarySkills = '' OR " +
+           "(SELECT COUNT(DISTINCT m.grp) FROM resource_skills rs " +
+           "JOIN unnest(string_to_array(:primarySkills, ','), string_to_array(:primaryGroups, ',')) AS m(skill, grp) " +
+           "ON rs.skill_name::text = m.skill WHERE rs.resource_id = r.id) = " +
+           "(SELECT COUNT(DISTINCT g) FROM unnest(string_to_array(:primaryGroups, ',')) AS g))";
+
+    String PRIMARY_SKILL_ORDER = " ORDER BY " +
+           "((SELECT COUNT(DISTINCT m.grp) FROM resource_skills rs " +
+           "JOIN unnest(string_to_array(:primarySkills, ','), string_to_array(:primaryGroups, ',')) AS m(skill, grp) " +
+           "ON rs.skill_name::text = m.skill WHERE rs.resource_id = r.id) + " +
+           "(SELECT COUNT(DISTINCT m.grp) FROM resource_skills rs " +
+           "JOIN unnest(string_to_array(:secondarySkills, ','), string_to_array(:secondaryGroups, ',')) AS m(skill, grp) " +
+           "ON rs.skill_name::text = m.skill WHERE rs.resource_id = r.id)) DESC, " +
+           "r.name ASC";
+
+    String SKILL_SEARCH_ORDER = " ORDER BY " +
+           "CASE WHEN :skillNames IS NULL OR :skillNames = '' THEN 0 " +
+           "ELSE (SELECT COUNT(DISTINCT m.grp) FROM resource_skills rs " +
+           "JOIN unnest(string_to_array(:skillNames, ','), string_to_array(:skillGroups, ',')) AS m(skill, grp) " +
+           "ON rs.skill_name::text = m.skill WHERE rs.resource_id = r.id) END DESC, " +
+           "r.name ASC";
+
+    // Status, location and skill counts over a "filtered" CTE in one pass. Each resource contributes one
+    // NULL-skill row, counted by the status and location sets, plus one row per distinct skill.
+    String FACET_COUNTS = "SELECT CASE WHEN GROUPING(f.status) = 0 THEN 'status' " +
+           "WHEN GROUPING(f.location) = 0 THEN 'location' ELSE 'skill' END AS facet, " +
+           "CASE WHEN GROUPING(f.status) = 0 THEN f.status " +
+           "WHEN GROUPING(f.location) = 0 THEN f.location ELSE s.skill_name END AS value, " +
+           "CASE WHEN GROUPING(s.skill_name) = 0 THEN COUNT(s.skill_name) " +
+           "ELSE COUNT(*) FILTER (WHERE s.skill_name IS NULL) END AS count " +
+           "FROM filtered f CROSS JOIN LATERAL (SELECT NULL::varchar AS skill_name UNION ALL " +
+           "SELECT DISTINCT rs.skill_name FROM resource_skills rs WHERE rs.resource_id = f.id) s " +
+           "GROUP BY GROUPING SETS ((f.status), (f.location), (s.skill_name)) " +
+           "HAVING GROUPING(s.skill_name) = 1 OR s.skill_name IS NOT NULL";
+
+    // ATP counts with the status as a literal, so the planner can use the partial bench index from schema.sql
+    // (a bound parameter would leave a generic plan unable to prove the index predicate)
+    String ATP_LOCATION_COUNTS = "SELECT r.location AS value, COUNT(*) AS count FROM resources r " +
+           "WHERE r.status = 'ATP' AND r.deleted_at IS NULL GROUP BY r.location";
+
+    String ATP_SKILL_COUNTS = "SELECT rs.skill_name AS value, COUNT(*) AS count FROM resources r " +
+           "JOIN resource_skills rs ON rs.resource_id = r.id " +
+           "WHERE r.status = 'ATP' AND r.deleted_at IS NULL GROUP BY rs.skill_name";
+
     Optional<Resource> findByEmployeeId(String employeeId);
 
     Optional<Resource> findByEmail(String email);
 
+    @Query(value = "SELECT r.* FROM resources r WHERE r.deleted_at IS NULL AND r.employee_id IN (:employeeIds)",
+           nativeQuery = true)
+    List<Resource> findAllByEmployeeIds(@Param("employeeIds") Collection<String> employeeIds);
+
+    @Query(value = "SELECT r.id FROM resources r WHERE r.deleted_at IS NULL AND r.id IN (:ids)", nativeQuery = true)
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE resources SET status = :status, updated_at = now() WHERE id IN (:ids)", nativeQuery = true)
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("status") String status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE resources SET updated_at = now() WHERE id IN (:ids)", nativeQuery = true)
+    int touchByIds(@Param("ids") Collection<Long> ids);
+
+    // Skills and soft blocks stay with the row until ResourceArchiver moves them to the archive tables
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE resources SET deleted_at = now(), updated_at = now() WHERE id IN (:ids) AND deleted_at IS NULL",
+           nativeQuery = true)
+    int softDeleteByIds(@Param("ids") Collection<Long> ids);
+
     Page<Resource> findByStatus(Resource.ResourceStatus status, Pageable pageable);
 
     Page<Resource> findByLocation(String location, Pageable pageable);
 
+    // Includes a NULL location row, so the counts add up to the number of ATP resources
+    @Query(value = ATP_LOCATION_COUNTS, nativeQuery = true)
+    List<ValueCount> countAtpByLocation();
+
+    // One count per skill row, so a skill listed twice on a resource counts twice
+    @Query(value = ATP_SKILL_COUNTS, nativeQuery = true)
+    List<ValueCount> countAtpBySkill();
+
+    interface ValueCount {
+        String getValue();
+        Long getCount();
+    }
+
+    // Bench intervals overlapping [from, until): benchFrom inclusive, benchUntil exclusive, null when unbounded
+    @Query(value = "SELECT r.id AS id, r.location AS location, " +
+           "lower(resource_availability(r.status, r.availability_date, r.release_date)) AS benchFrom, " +
+           "upper(resource_availability(r.status, r.availability_date, r.release_date)) AS benchUntil, " +
+           "(SELECT MAX(sb.blocked_until) FROM resource_soft_blocked_accounts sb WHERE sb.resource_id = r.id) AS blockedUntil, " +
+           "(SELECT string_agg(DISTINCT rs.skill_name, chr(31)) FROM resource_skills rs WHERE rs.resource_id = r.id) AS skills " +
+           "FROM resources r " +
+           "WHERE r.deleted_at IS NULL AND resource_availability(r.status, r.availability_date, r.release_date) " +
+           "&& daterange(CAST(:from AS date), CAST(:until AS date))",
+           nativeQuery = true)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    Stream<BenchInterval> streamBenchIntervals(@Param("from") String from, @Param("until") String until);
+
+    interface BenchInterval {
+        Long getId();
+        String getLocation();
+        LocalDate getBenchFrom();
+        LocalDate getBenchUntil();
+        LocalDate getBlockedUntil();
+        // Distinct skill names joined with the unit separator (U+001F)
+        String getSkills();
+    }
+
+    @Query(value = "SELECT r.id AS id, r.employee_id AS employeeId, r.name AS name, r.designation AS designation, " +
+           "(SELECT string_agg(DISTINCT rs.skill_name, chr(31)) FROM resource_skills rs WHERE rs.resource_id = r.id) AS skills " +
+           "FROM resources r WHERE r.deleted_at IS NULL",
+           nativeQuery = true)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    Stream<SuggestSource> streamSuggestSources();
+
+    @Query(value = "SELECT r.id AS id, r.employee_id AS employeeId, r.name AS name, r.designation AS designation, " +
+           "(SELECT string_agg(DISTINCT rs.skill_name, chr(31)) FROM resource_skills rs WHERE rs.resource_id = r.id) AS skills " +
+           "FROM resources r WHERE r.deleted_at IS NULL AND r.id IN (:ids)",
+           nativeQuery = true)
+    List<SuggestSource> findSuggestSources(@Param("ids") Collection<Long> ids);
+
+    interface SuggestSource {
+        Long getId();
+        String getEmployeeId();
+        String getName();
+        String getDesignation();
+        // Distinct skill names joined with the unit separator (U+001F)
+        String getSkills();
+    }
+
+    @Query(value = "SELECT r.id AS id, r.status AS status, r.location AS location, r.designation AS designation, " +
+           "r.total_experience AS totalExperience, r.availability_date AS availabilityDate, " +
+           "(SELECT string_agg(DISTINCT rs.skill_name, chr(31)) FROM resource_skills rs WHERE rs.resource_id = r.id) AS skills " +
+           "FROM resources r WHERE r.deleted_at IS NULL",
+           nativeQuery = true)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    Stream<CubeSource> streamCubeSources();
+
+    @Query(value = "SELECT r.id AS id, r.status AS status, r.location AS location, r.designation AS designation, " +
+           "r.total_experience AS totalExperience, r.availability_date AS availabilityDate, " +
+           "(SELECT string_agg(DISTINCT rs.skill_name, chr(31)) FROM resource_skills rs WHERE rs.resource_id = r.id) AS skills " +
+           "FROM resources r WHERE r.deleted_at IS NULL AND r.id IN (:ids)",
+           nativeQuery = true)
+    List<CubeSource> findCubeSources(@Param("ids") Collection<Long> ids);
+
+    interface CubeSource {
+        Long getId();
+        String getStatus();
+        String getLocation();
+        String getDesignation();
+        Integer getTotalExperience();
+        LocalDate getAvailabilityDate();
+        // Distinct skill names joined with the unit separator (U+001F)
+        String getSkills();
+    }
+
     @Query("SELECT DISTINCT r.location FROM Resource r WHERE r.location IS NOT NULL")
     List<String> findDistinctLocations();
 
-    @Query(value = "SELECT DISTINCT rs.skill_name FROM resource_skills rs WHERE rs.skill_name IS NOT NULL", nativeQuery = true)
+    @Query(value = "SELECT DISTINCT rs.skill_name FROM resource_skills rs " +
+           "JOIN resources r ON r.id = rs.resource_id AND r.deleted_at IS NULL WHERE rs.skill_name IS NOT NULL", nativeQuery = true)
     List<String> findDistinctSkillNames();
 
     @Query(value = "SELECT DISTINCT r.* FROM resources r " +
-           "WHERE (:search IS NULL OR " +
+           "WHERE r.deleted_at IS NULL AND (:search IS NULL OR " +
            "LOWER(r.name::text) LIKE LOWER('%' || :search || '%') OR " +
            "LOWER(r.email::text) LIKE LOWER('%' || :search || '%') OR " +
            "LOWER(r.designation::text) LIKE LOWER('%' || :search || '%') OR " +
            "EXISTS (SELECT 1 FROM resource_skills rs WHERE rs.resource_id = r.id AND LOWER(rs.skill_name::text) LIKE LOWER('%' || :search || '%')))",
            countQuery = "SELECT COUNT(DISTINCT r.id) FROM resources r " +
-           "WHERE (:search IS NULL OR " +
+           "WHERE r.deleted_at IS NULL AND (:search IS NULL OR " +
            "LOWER(r.name::text) LIKE LOWER('%' || :search || '%') OR " +
            "LOWER(r.email::text) LIKE LOWER('%' || :search || '%') OR " +
            "LOWER(r.designation::text) LIKE LOWER('%' || :search || '%') OR " +
@@ -43,24 +225,15 @@ public interface ResourceRepository extends JpaRepository<Resource, Long> {
            nativeQuery = true)
     Page<Resource> searchResources(@Param("search") String search, Pageable pageable);
 
-    @Query(value = "SELECT DISTINCT r.* FROM resources r " +
-           "WHERE (:status IS NULL OR r.status::text = :status) AND " +
-           "(:location IS NULL OR r.location::text = :location) AND " +
-           "(:skillName IS NULL OR EXISTS (SELECT 1 FROM resource_skills rs WHERE rs.resource_id = r.id AND rs.skill_name::text = :skillName)) AND " +
-           "(:search IS NULL OR " +
-           "LOWER(r.name::text) LIKE LOWER('%' || :search || '%') OR " +
-           "LOWER(r.email::text) LIKE LOWER('%' || :search || '%') OR " +
-           "LOWER(r.designation::text) LIKE LOWER('%' || :search || '%') OR " +
-           "EXISTS (SELECT 1 FROM resource_skills rs WHERE rs.resource_id = r.id AND LOWER(rs.skill_name::text) LIKE LOWER('%' || :search || '%')))",
-           countQuery = "SELECT COUNT(DISTINCT r.id) FROM resources r " +
-           "WHERE (:status IS NULL OR r.status::text = :status) AND " +
-           "(:location IS NULL OR r.location::text = :location) AND " +
-           "(:skillName IS NULL OR EXISTS (SELECT 1 FROM resource_skills rs WHERE rs.resource_id = r.id AND rs.skill_name::text = :skillName)) AND " +
-           "(:search IS NULL OR " +
-           "LOWER(r.name::text) LIKE LOWER('%' || :search || '%') OR " +
-           "LOWER(r.email::text) LIKE LOWER('%' || :search || '%') OR " +
-           "LOWER(r.designation::text) LIKE LOWER('%' || :search || '%') OR " +
-           "EXISTS (SELECT 1 FROM resource_skills rs WHERE rs.resource_id = r.id AND LOWER(rs.skill_name::text) LIKE LOWER('%' || :search || '%')))",
+    default Page<Resource> findWithFilters(String status, String location, String skillName, String search,
+                                           String availableFrom, String availableTo, Pageable pageable) {
+        return availableFrom == null && availableTo == null
+                ? findWithFilters(status, location, skillName, search, pageable)
+                : findWithFiltersInWindow(status, location, skillName, search, availableFrom, availableTo, pageable);
+    }
+
+    @Query(value = "SELECT DISTINCT r.* FROM resources r WHERE " + RESOURCE_FILTERS,
+           countQuery = "SELECT COUNT(DISTINCT r.id) FROM resources r WHERE " + RESOURCE_FILTERS,
            nativeQuery = true)
     Page<Resource> findWithFilters(
             @Param("status") String status,
@@ -70,54 +243,185 @@ public interface ResourceRepository extends JpaRepository<Resource, Long> {
             Pageable pageable
     );
 
-    @Query(value = "SELECT r.* FROM resources r " +
-           "WHERE (:location IS NULL OR r.location::text = :location) AND " +
-           "(:experience IS NULL OR r.total_experience >= (:experience - 5)) AND " +
-           "(:skillNames IS NULL OR :skillNames = '' OR " +
-           "EXISTS (SELECT 1 FROM resource_skills rs WHERE rs.resource_id = r.id AND rs.skill_name::text = ANY(string_to_array(:skillNames, ',')))) " +
-           "ORDER BY " +
-           "CASE WHEN :skillNames IS NULL OR :skillNames = '' THEN 0 " +
-           "ELSE (SELECT COUNT(DISTINCT rs.skill_name) FROM resource_skills rs WHERE rs.resource_id = r.id AND rs.skill_name::text = ANY(string_to_array(:skillNames, ','))) END DESC, " +
-           "r.name ASC",
-           countQuery = "SELECT COUNT(r.id) FROM resources r " +
-           "WHERE (:location IS NULL OR r.location::text = :location) AND " +
-           "(:experience IS NULL OR r.total_experience >= (:experience - 5)) AND " +
-           "(:skillNames IS NULL OR :skillNames = '' OR " +
-           "EXISTS (SELECT 1 FROM resource_skills rs WHERE rs.resource_id = r.id AND rs.skill_name::text = ANY(string_to_array(:skillNames, ','))))",
+    @Query(value = "SELECT DISTINCT r.* FROM resources r WHERE " + RESOURCE_FILTERS + AVAILABLE_IN_WINDOW,
+           countQuery = "SELECT COUNT(DISTINCT r.id) FROM resources r WHERE " + RESOURCE_FILTERS + AVAILABLE_IN_WINDOW,
+           nativeQuery = true)
+    Page<Resource> findWithFiltersInWindow(
+            @Param("status") String status,
+            @Param("location") String location,
+            @Param("skillName") String skillName,
+            @Param("search") String search,
+            @Param("availableFrom") String availableFrom,
+            @Param("availableTo") String availableTo,
+            Pageable pageable
+    );
+
+    // Keyset page of the ids matching the findWithFilters predicates, for exports that walk the whole result
+    default List<Long> findIdsWithFilters(String status, String location, String skillName, String search,
+                                          String availableFrom, String availableTo, long afterId, int limit) {
+        return availableFrom == null && availableTo == null
+                ? findIdsWithFilters(status, location, skillName, search, afterId, limit)
+                : findIdsWithFiltersInWindow(status, location, skillName, search, availableFrom, availableTo, afterId, limit);
+    }
+
+    @Query(value = "SELECT r.id FROM resources r WHERE r.id > :afterId AND " + RESOURCE_FILTERS +
+           " ORDER BY r.id LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findIdsWithFilters(
+            @Param("status") String status,
+            @Param("location") String location,
+            @Param("skillName") String skillName,
+            @Param("search") String search,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = "SELECT r.id FROM resources r WHERE r.id > :afterId AND " + RESOURCE_FILTERS + AVAILABLE_IN_WINDOW +
+           " ORDER BY r.id LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findIdsWithFiltersInWindow(
+            @Param("status") String status,
+            @Param("location") String location,
+            @Param("skillName") String skillName,
+            @Param("search") String search,
+            @Param("availableFrom") String availableFrom,
+            @Param("availableTo") String availableTo,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit
+    );
+
+    default List<FacetCount> findFacetsWithFilters(String status, String location, String skillName, String search,
+                                                   String availableFrom, String availableTo) {
+        return availableFrom == null && availableTo == null
+                ? findFacetsWithFilters(status, location, skillName, search)
+                : findFacetsWithFiltersInWindow(status, location, skillName, search, availableFrom, availableTo);
+    }
+
+    @Query(value = "WITH filtered AS (SELECT r.id, r.status, r.location FROM resources r WHERE " + RESOURCE_FILTERS + ") " +
+           FACET_COUNTS,
+           nativeQuery = true)
+    List<FacetCount> findFacetsWithFilters(
+            @Param("status") String status,
+            @Param("location") String location,
+            @Param("skillName") String skillName,
+            @Param("search") String search
+    );
+
+    @Query(value = "WITH filtered AS (SELECT r.id, r.status, r.location FROM resources r WHERE " + RESOURCE_FILTERS +
+           AVAILABLE_IN_WINDOW + ") " + FACET_COUNTS,
+           nativeQuery = true)
+    List<FacetCount> findFacetsWithFiltersInWindow(
+            @Param("status") String status,
+            @Param("location") String location,
+            @Param("skillName") String skillName,
+            @Param("search") String search,
+            @Param("availableFrom") String availableFrom,
+            @Param("availableTo") String availableTo
+    );
+
+    interface FacetCount {
+        String getFacet();
+        String getValue();
+        Long getCount();
+    }
+
+    default Page<Resource> findBySkillsAndLocation(String skillNames, String skillGroups, String location,
+                                                   Integer experience, String availableFrom, String availableTo,
+                                                   Pageable pageable) {
+        return availableFrom == null && availableTo == null
+                ? findBySkillsAndLocation(skillNames, skillGroups, location, experience, pageable)
+                : findBySkillsAndLocationInWindow(skillNames, skillGroups, location, experience,
+                        availableFrom, availableTo, pageable);
+    }
+
+    @Query(value = "SELECT r.* FROM resources r WHERE " + SKILL_SEARCH_FILTERS + SKILL_SEARCH_ORDER,
+           countQuery = "SELECT COUNT(r.id) FROM resources r WHERE " + SKILL_SEARCH_FILTERS,
            nativeQuery = true)
     Page<Resource> findBySkillsAndLocation(
             @Param("skillNames") String skillNames,
+            @Param("skillGroups") String skillGroups,
             @Param("location") String location,
             @Param("experience") Integer experience,
             Pageable pageable
     );
 
-    @Query(value = "SELECT r.* FROM resources r " +
-           "WHERE (:location IS NULL OR r.location::text = :location) AND " +
-           "(:experience IS NULL OR r.total_experience >= (:experience - 5)) AND " +
-           "(:primarySkills IS NULL OR :primarySkills = '' OR " +
-           "(SELECT COUNT(DISTINCT rs.skill_name) FROM resource_skills rs " +
-           "WHERE rs.resource_id = r.id AND rs.skill_name::text = ANY(string_to_array(:primarySkills, ','))) = " +
-           "array_length(string_to_array(:primarySkills, ','), 1)) " +
-           "ORDER BY " +
-           "(COALESCE((SELECT COUNT(DISTINCT rs.skill_name) FROM resource_skills rs " +
-           "WHERE rs.resource_id = r.id AND (:primarySkills IS NULL OR :primarySkills = '' OR rs.skill_name::text = ANY(string_to_array(:primarySkills, ',')))), 0) + " +
-           "COALESCE((SELECT COUNT(DISTINCT rs.skill_name) FROM resource_skills rs " +
-           "WHERE rs.resource_id = r.id AND (:secondarySkills IS NULL OR :secondarySkills = '' OR rs.skill_name::text = ANY(string_to_array(:secondarySkills, ',')))), 0)) DESC, " +
-           "r.name ASC",
-           countQuery = "SELECT COUNT(r.id) FROM resources r " +
-           "WHERE (:location IS NULL OR r.location::text = :location) AND " +
-           "(:experience IS NULL OR r.total_experience >= (:experience - 5)) AND " +
-           "(:primarySkills IS NULL OR :primarySkills = '' OR " +
-           "(SELECT COUNT(DISTINCT rs.skill_name) FROM resource_skills rs " +
-           "WHERE rs.resource_id = r.id AND rs.skill_name::text = ANY(string_to_array(:primarySkills, ','))) = " +
-           "array_length(string_to_array(:primarySkills, ','), 1))",
+    @Query(value = "SELECT r.* FROM resources r WHERE " + SKILL_SEARCH_FILTERS + AVAILABLE_IN_WINDOW + SKILL_SEARCH_ORDER,
+           countQuery = "SELECT COUNT(r.id) FROM resources r WHERE " + SKILL_SEARCH_FILTERS + AVAILABLE_IN_WINDOW,
+           nativeQuery = true)
+    Page<Resource> findBySkillsAndLocationInWindow(
+            @Param("skillNames") String skillNames,
+            @Param("skillGroups") String skillGroups,
+            @Param("location") String location,
+            @Param("experience") Integer experience,
+            @Param("availableFrom") String availableFrom,
+            @Param("availableTo") String availableTo,
+            Pageable pageable
+    );
+
+    default List<FacetCount> findFacetsBySkillsAndLocation(String skillNames, String location, Integer experience,
+                                                           String availableFrom, String availableTo) {
+        return availableFrom == null && availableTo == null
+                ? findFacetsBySkillsAndLocation(skillNames, location, experience)
+                : findFacetsBySkillsAndLocationInWindow(skillNames, location, experience, availableFrom, availableTo);
+    }
+
+    @Query(value = "WITH filtered AS (SELECT r.id, r.status, r.location FROM resources r WHERE " + SKILL_SEARCH_FILTERS + ") " +
+           FACET_COUNTS,
+           nativeQuery = true)
+    List<FacetCount> findFacetsBySkillsAndLocation(
+            @Param("skillNames") String skillNames,
+            @Param("location") String location,
+            @Param("experience") Integer experience
+    );
+
+    @Query(value = "WITH filtered AS (SELECT r.id, r.status, r.location FROM resources r WHERE " + SKILL_SEARCH_FILTERS +
+           AVAILABLE_IN_WINDOW + ") " + FACET_COUNTS,
+           nativeQuery = true)
+    List<FacetCount> findFacetsBySkillsAndLocationInWindow(
+            @Param("skillNames") String skillNames,
+            @Param("location") String location,
+            @Param("experience") Integer experience,
+            @Param("availableFrom") String availableFrom,
+            @Param("availableTo") String availableTo
+    );
+
+    default Page<Resource> findByPrimaryAndSecondarySkills(String primarySkills, String primaryGroups,
+                                                           String secondarySkills, String secondaryGroups,
+                                                           String location, Integer experience,
+                                                           String availableFrom, String availableTo,
+                                                           Pageable pageable) {
+        return availableFrom == null && availableTo == null
+                ? findByPrimaryAndSecondarySkills(primarySkills, primaryGroups, secondarySkills, secondaryGroups,
+                        location, experience, pageable)
+                : findByPrimaryAndSecondarySkillsInWindow(primarySkills, primaryGroups, secondarySkills,
+                        secondaryGroups, location, experience, availableFrom, availableTo, pageable);
+    }
+
+    @Query(value = "SELECT r.* FROM resources r WHERE " + PRIMARY_SKILL_FILTERS + PRIMARY_SKILL_ORDER,
+           countQuery = "SELECT COUNT(r.id) FROM resources r WHERE " + PRIMARY_SKILL_FILTERS,
            nativeQuery = true)
     Page<Resource> findByPrimaryAndSecondarySkills(
             @Param("primarySkills") String primarySkills,
+            @Param("primaryGroups") String primaryGroups,
+            @Param("secondarySkills") String secondarySkills,
+            @Param("secondaryGroups") String secondaryGroups,
+            @Param("location") String location,
+            @Param("experience") Integer experience,
+            Pageable pageable
+    );
+
+    @Query(value = "SELECT r.* FROM resources r WHERE " + PRIMARY_SKILL_FILTERS + AVAILABLE_IN_WINDOW + PRIMARY_SKILL_ORDER,
+           countQuery = "SELECT COUNT(r.id) FROM resources r WHERE " + PRIMARY_SKILL_FILTERS + AVAILABLE_IN_WINDOW,
+           nativeQuery = true)
+    Page<Resource> findByPrimaryAndSecondarySkillsInWindow(
+            @Param("primarySkills") String primarySkills,
+            @Param("primaryGroups") String primaryGroups,
             @Param("secondarySkills") String secondarySkills,
+            @Param("secondaryGroups") String secondaryGroups,
             @Param("location") String location,
             @Param("experience") Integer experience,
+            @Param("availableFrom") String availableFrom,
+            @Param("availableTo") String availableTo,
             Pageable pageable
     );
 }
@@ -0,0 +1,63 @@
+package com.xebia.talentacquisition.repository;
+
+import com.xebia.talentacquisition.dto.AccountSoftBlockDTO;
+import com.xebia.talentacquisition.entity.ResourceSoftBlock;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ResourceSoftBlockRepository extends JpaRepository<ResourceSoftBlock, Long> {
+
+    @Query(value = "SELECT sb.resource_id FROM resource_soft_blocked_accounts sb " +
+           "WHERE sb.account_id = :accountId AND sb.resource_id IN (:resourceIds)",
+           nativeQuery = true)
+    List<Long> findBlockedResourceIds(
+            @Param("accountId") Long accountId,
+            @Param("resourceIds") Collection<Long> resourceIds
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE resource_soft_blocked_accounts SET blocked_until = :blockedUntil, updated_at = now() " +
+           "WHERE account_id = :accountId AND resource_id IN (:resourceIds)",
+           nativeQuery = true)
+    int updateBlockedUntil(
+            @Param("accountId") Long accountId,
+            @Param("resourceIds") Collection<Long> resourceIds,
+            @Param("blockedUntil") LocalDate blockedUntil
+    );
+
+    // Range scan on (account_id, blocked_until); only the listed resource columns are read
+    @Query(value = "SELECT new com.xebia.talentacquisition.dto.AccountSoftBlockDTO(" +
+           "r.id, r.employeeId, r.name, r.designation, r.location, r.status, sb.blockedUntil) " +
+           "FROM ResourceSoftBlock sb JOIN sb.resource r " +
+           "WHERE sb.account.id = :accountId AND r.deletedAt IS NULL AND sb.blockedUntil >= :expiresFrom " +
+           "AND sb.blockedUntil <= COALESCE(:expiresTo, sb.blockedUntil)",
+           countQuery = "SELECT COUNT(sb) FROM ResourceSoftBlock sb JOIN sb.resource r " +
+           "WHERE sb.account.id = :accountId AND r.deletedAt IS NULL AND sb.blockedUntil >= :expiresFrom " +
+           "AND sb.blockedUntil <= COALESCE(:expiresTo, sb.blockedUntil)")
+    Page<AccountSoftBlockDTO> findByAccount(
+            @Param("accountId") Long accountId,
+            @Param("expiresFrom") LocalDate expiresFrom,
+            @Param("expiresTo") LocalDate expiresTo,
+            Pageable pageable
+    );
+
+    // One aggregate over the (account_id, blocked_until) index for all accounts, skipping deleted resources
+    @Query("SELECT sb.account.id AS accountId, COUNT(sb) AS count FROM ResourceSoftBlock sb JOIN sb.resource r " +
+           "WHERE r.deletedAt IS NULL AND sb.blockedUntil >= :today GROUP BY sb.account.id")
+    List<AccountBlockCount> countActiveByAccount(@Param("today") LocalDate today);
+
+    interface AccountBlockCount {
+        Long getAccountId();
+        Long getCount();
+    }
+}
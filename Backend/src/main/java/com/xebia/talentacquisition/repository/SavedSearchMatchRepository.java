@@ -0,0 +1,29 @@
+package com.xebia.talentacquisition.repository;
+
+import com.xebia.talentacquisition.entity.SavedSearchMatch;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SavedSearchMatchRepository extends JpaRepository<SavedSearchMatch, Long> {
+
+    Page<SavedSearchMatch> findBySavedSearchId(Long savedSearchId, Pageable pageable);
+
+    @Query("SELECT m.savedSearch.id FROM SavedSearchMatch m WHERE m.resourceId = :resourceId AND m.savedSearch.id IN :savedSearchIds")
+    List<Long> findMatchedSavedSearchIds(
+            @Param("resourceId") Long resourceId,
+            @Param("savedSearchIds") Collection<Long> savedSearchIds
+    );
+
+    @Modifying
+    @Query("DELETE FROM SavedSearchMatch m WHERE m.savedSearch.id = :savedSearchId")
+    int deleteBySavedSearchId(@Param("savedSearchId") Long savedSearchId);
+}
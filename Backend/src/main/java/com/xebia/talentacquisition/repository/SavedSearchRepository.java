@@ -0,0 +1,20 @@
+package com.xebia.talentacquisition.repository;
+
+import com.xebia.talentacquisition.entity.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    @Query("SELECT DISTINCT s FROM SavedSearch s LEFT JOIN FETCH s.skills")
+    List<SavedSearch> findAllWithSkills();
+
+    @Query("SELECT s FROM SavedSearch s LEFT JOIN FETCH s.skills WHERE s.id = :id")
+    Optional<SavedSearch> findByIdWithSkills(@Param("id") Long id);
+}
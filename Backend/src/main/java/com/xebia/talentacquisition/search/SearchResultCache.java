@@ -0,0 +1,83 @@
+package com.xebia.talentacquisition.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.xebia.talentacquisition.dto.FacetsDTO;
+import com.xebia.talentacquisition.event.ResourceChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the ordered resource ids, total count and facets of search requests, keyed on the normalized
+ * request. Callers still load and map the entities for every response, so only which rows match is cached,
+ * never their content. Every key carries the data version current when it was built, and every resource
+ * write bumps the version, so entries from before a write can no longer be hit and age out of the
+ * bounded (W-TinyLFU) cache.
+ */
+@Component
+public class SearchResultCache {
+
+    private final AtomicLong dataVersion = new AtomicLong();
+    private final boolean enabled;
+    private final Cache<Key, Result> cache;
+
+    public SearchResultCache(@Value("${search-cache.enabled:true}") boolean enabled,
+                             @Value("${search-cache.max-entries:2000}") long maxEntries,
+                             @Value("${search-cache.ttl-seconds:300}") long ttlSeconds,
+                             MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "resourceSearch");
+    }
+
+    public record Key(long version, List<Object> parts) {
+    }
+
+    public record Result(List<Long> ids, long total, FacetsDTO facets) {
+    }
+
+    // Parts must already be normalized: sorted skill lists, lowercased case-insensitive terms
+    public Key key(Object... parts) {
+        return new Key(dataVersion.get(), Arrays.asList(parts));
+    }
+
+    public Result get(Key key) {
+        return enabled ? cache.getIfPresent(key) : null;
+    }
+
+    public void put(Key key, Result result) {
+        // A key built before a write is never looked up again, so there is no point storing it
+        if (enabled && key.version() == dataVersion.get()) {
+            cache.put(key, result);
+        }
+    }
+
+    // Bumped when the write happens and again once it commits, so a result read in between is not reused
+    @EventListener
+    public void onResourceChanging(ResourceChangedEvent event) {
+        dataVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onResourceChanged(ResourceChangedEvent event) {
+        dataVersion.incrementAndGet();
+    }
+
+    public long dataVersion() {
+        return dataVersion.get();
+    }
+}
@@ -0,0 +1,132 @@
+package com.xebia.talentacquisition.search;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable character trie over normalized skill keys. Each terminal node carries the canonical concept
+ * the key belongs to. Lookups walk the trie with a Levenshtein row per node, pruning every branch whose
+ * row minimum already exceeds the edit budget, so a typo lookup only visits a thin slice of the vocabulary.
+ */
+final class SkillAutomaton {
+
+    private final Node root;
+    private final int size;
+
+    private SkillAutomaton(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    static SkillAutomaton build(Map<String, String> keyToConcept) {
+        Node root = new Node();
+        keyToConcept.forEach((key, concept) -> {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.getOrAdd(key.charAt(i));
+            }
+            node.concept = concept;
+        });
+        return new SkillAutomaton(root, keyToConcept.size());
+    }
+
+    int size() {
+        return size;
+    }
+
+    String exact(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node != null ? node.concept : null;
+    }
+
+    // Closest concept within maxEdits, or null when there is none or two concepts are equally close;
+    // exact hits short-circuit the search
+    String nearest(String key, int maxEdits) {
+        String exact = exact(key);
+        if (exact != null || maxEdits == 0) {
+            return exact;
+        }
+        int[] firstRow = new int[key.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+        Best best = new Best(maxEdits);
+        for (int i = 0; i < root.labels.length; i++) {
+            search(root.children[i], root.labels[i], firstRow, key, best);
+        }
+        return best.ambiguous ? null : best.concept;
+    }
+
+    private void search(Node node, char label, int[] previousRow, String key, Best best) {
+        int columns = previousRow.length;
+        int[] row = new int[columns];
+        row[0] = previousRow[0] + 1;
+        int rowMin = row[0];
+        for (int i = 1; i < columns; i++) {
+            int insert = row[i - 1] + 1;
+            int delete = previousRow[i] + 1;
+            int replace = previousRow[i - 1] + (key.charAt(i - 1) == label ? 0 : 1);
+            row[i] = Math.min(insert, Math.min(delete, replace));
+            rowMin = Math.min(rowMin, row[i]);
+        }
+        int distance = row[columns - 1];
+        if (node.concept != null && distance < best.distance) {
+            best.distance = distance;
+            best.concept = node.concept;
+            best.ambiguous = false;
+        } else if (node.concept != null && distance == best.distance && !node.concept.equals(best.concept)) {
+            best.ambiguous = true;
+        }
+        // Branches that can still tie are walked too, so an ambiguous match is not missed
+        if (rowMin <= Math.min(best.distance, best.maxEdits)) {
+            for (int i = 0; i < node.labels.length; i++) {
+                search(node.children[i], node.labels[i], row, key, best);
+            }
+        }
+    }
+
+    private static final class Best {
+        private final int maxEdits;
+        private int distance;
+        private String concept;
+        private boolean ambiguous;
+
+        private Best(int maxEdits) {
+            this.maxEdits = maxEdits;
+            this.distance = maxEdits + 1;
+        }
+    }
+
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private String concept;
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node getOrAdd(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newLabels[insertAt] = c;
+            newChildren[insertAt] = new Node();
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            labels = newLabels;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.xebia.talentacquisition.search;
+
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves free-form skill terms ("springboot", "Sprng Boot", "k8s") to the skill names actually stored
+ * in resource_skills, so the search queries can keep using exact, index-friendly comparisons.
+ */
+@Component
+@RequiredArgsConstructor
+public class SkillResolver {
+
+    private static final String SYNONYMS_LOCATION = "skill-synonyms.txt";
+
+    private final ResourceRepository resourceRepository;
+
+    private volatile Map<String, String> synonyms = Map.of();
+    private volatile Vocabulary vocabulary = Vocabulary.build(Map.of(), Set.of());
+    // Bumped on every rebuild, so holders of resolved forms can tell when to resolve again
+    private volatile long vocabularyVersion;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void loadVocabulary() {
+        synonyms = loadSynonyms();
+        vocabulary = Vocabulary.build(synonyms, new HashSet<>(resourceRepository.findDistinctSkillNames()));
+        vocabularyVersion++;
+    }
+
+    // Adds skill names seen on writes; the automaton is only rebuilt when one of them is new
+    public void register(Collection<String> skillNames) {
+        List<String> names = skillNames.stream().filter(Objects::nonNull).toList();
+        if (vocabulary.surfaceForms().containsAll(names)) {
+            return;
+        }
+        synchronized (this) {
+            Set<String> surfaceForms = new HashSet<>(vocabulary.surfaceForms());
+            surfaceForms.addAll(names);
+            vocabulary = Vocabulary.build(synonyms, surfaceForms);
+            vocabularyVersion++;
+        }
+    }
+
+    public long vocabularyVersion() {
+        return vocabularyVersion;
+    }
+
+    public Set<String> resolve(String term) {
+        Set<String> forms = vocabulary.formsOf(term);
+        return forms.isEmpty() ? Set.of(term.trim()) : forms;
+    }
+
+    public ResolvedSkills resolveAll(Collection<String> terms) {
+        List<String> skills = new ArrayList<>();
+        List<Integer> groups = new ArrayList<>();
+        Set<Set<String>> seen = new HashSet<>();
+        int group = 0;
+        for (String term : terms) {
+            // Spelling variants of an earlier term ("springboot", "Spring Boot") are the same requested skill
+            Set<String> forms = term != null && !term.isBlank() ? resolve(term) : Set.of();
+            if (forms.isEmpty() || !seen.add(forms)) {
+                continue;
+            }
+            for (String form : forms) {
+                skills.add(form);
+                groups.add(group);
+            }
+            group++;
+        }
+        return new ResolvedSkills(skills, groups);
+    }
+
+    public static String normalize(String skill) {
+        StringBuilder key = new StringBuilder(skill.length());
+        for (int i = 0; i < skill.length(); i++) {
+            char c = Character.toLowerCase(skill.charAt(i));
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#') {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    // Short keys must match exactly, otherwise "js" would resolve to "ts" and "rust" to "rest"
+    static int maxEdits(String key) {
+        if (key.length() <= 4) {
+            return 0;
+        }
+        return key.length() <= 8 ? 1 : 2;
+    }
+
+    private Map<String, String> loadSynonyms() {
+        ClassPathResource file = new ClassPathResource(SYNONYMS_LOCATION);
+        if (!file.exists()) {
+            return Map.of();
+        }
+        Map<String, String> aliasToConcept = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf(':');
+                if (line.isBlank() || line.startsWith("#") || separator < 0) {
+                    continue;
+                }
+                String concept = normalize(line.substring(0, separator));
+                for (String alias : line.substring(separator + 1).split(",")) {
+                    String key = normalize(alias);
+                    if (!key.isEmpty()) {
+                        aliasToConcept.put(key, concept);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + SYNONYMS_LOCATION, e);
+        }
+        return Map.copyOf(aliasToConcept);
+    }
+
+    public record ResolvedSkills(List<String> skills, List<Integer> groups) {
+
+        public String skillsParam() {
+            return skills.isEmpty() ? null : String.join(",", skills);
+        }
+
+        // Parallel to skillsParam: which requested term each stored skill name satisfies
+        public String groupsParam() {
+            return groups.isEmpty() ? null : groups.stream().map(String::valueOf).collect(Collectors.joining(","));
+        }
+    }
+
+    record Vocabulary(Set<String> surfaceForms, SkillAutomaton automaton, Map<String, Set<String>> formsByConcept) {
+
+        static Vocabulary build(Map<String, String> synonyms, Set<String> surfaceForms) {
+            Map<String, String> keyToConcept = new HashMap<>();
+            synonyms.forEach((alias, concept) -> {
+                keyToConcept.put(alias, concept);
+                keyToConcept.put(concept, concept);
+            });
+            Map<String, Set<String>> formsByConcept = new HashMap<>();
+            for (String form : surfaceForms) {
+                String key = normalize(form);
+                if (key.isEmpty()) {
+                    continue;
+                }
+                String concept = synonyms.getOrDefault(key, key);
+                keyToConcept.putIfAbsent(key, concept);
+                formsByConcept.computeIfAbsent(concept, k -> new TreeSet<>()).add(form);
+            }
+            return new Vocabulary(Set.copyOf(surfaceForms), SkillAutomaton.build(keyToConcept), formsByConcept);
+        }
+
+        Set<String> formsOf(String term) {
+            String key = normalize(term);
+            if (key.isEmpty()) {
+                return Set.of();
+            }
+            String concept = automaton.nearest(key, maxEdits(key));
+            return concept != null ? formsByConcept.getOrDefault(concept, Set.of()) : Set.of();
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.xebia.talentacquisition.search;
+
+import com.xebia.talentacquisition.dto.SuggestionDTO;
+import com.xebia.talentacquisition.event.ResourceChangedEvent;
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index over resource names, employee IDs, designations and skills for autocomplete.
+ * Every word suffix of a value ("van dyke", "dyke") is a key in a sorted map, followed by a separator and
+ * a unique tail, so a prefix lookup is a range scan. Whole names and their later words are kept in separate
+ * maps, so the closer matches are scanned first. Reads never lock or touch the database; writes are
+ * applied per changed resource.
+ */
+@Component
+@RequiredArgsConstructor
+public class SuggestIndex {
+
+    private static final char SEPARATOR = '\u0000';
+    private static final String SKILL_SEPARATOR = "\u001f";
+
+    private final ResourceRepository resourceRepository;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    // name or employee id + SEPARATOR + resource id
+    private final ConcurrentSkipListMap<String, Entry> nameKeys = new ConcurrentSkipListMap<>();
+    // suffix + SEPARATOR + resource id, with one key per later word suffix of the name (see suffixes)
+    private final ConcurrentSkipListMap<String, Entry> laterWordKeys = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, Entry> employeeIdKeys = new ConcurrentSkipListMap<>();
+    // suffix + SEPARATOR + type + SEPARATOR + term, for designations and skills
+    private final ConcurrentSkipListMap<String, Term> termKeys = new ConcurrentSkipListMap<>();
+    private final Map<Term, Integer> termCounts = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void loadIndex() {
+        clear();
+        try (Stream<ResourceRepository.SuggestSource> sources = resourceRepository.streamSuggestSources()) {
+            sources.forEach(source -> add(Entry.of(source)));
+        }
+    }
+
+    // Synchronized around the read, so whichever listener runs last applies the latest committed state
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onResourceChanged(ResourceChangedEvent event) {
+        Set<Long> missing = new HashSet<>(event.resourceIds());
+        if (!event.deleted()) {
+            for (ResourceRepository.SuggestSource source : resourceRepository.findSuggestSources(event.resourceIds())) {
+                missing.remove(source.getId());
+                Entry previous = entries.get(source.getId());
+                if (previous != null) {
+                    remove(previous);
+                }
+                add(Entry.of(source));
+            }
+        }
+        for (Long id : missing) {
+            Entry previous = entries.get(id);
+            if (previous != null) {
+                remove(previous);
+            }
+        }
+    }
+
+    public List<SuggestionDTO> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<Candidate> candidates = new ArrayList<>();
+
+        Set<Term> terms = new HashSet<>(range(termKeys, prefix).values());
+        for (Term term : terms) {
+            Integer count = termCounts.get(term);
+            if (count != null) {
+                candidates.add(new Candidate(rank(term.value(), prefix), SuggestionDTO.builder()
+                        .type(term.type())
+                        .value(term.value())
+                        .count(count)
+                        .build()));
+            }
+        }
+        // Exact and whole-value matches rank above later-word matches, so scan those first and stop after limit
+        // resources of each type; an exact key sorts first, since SEPARATOR is the lowest char
+        addResources(candidates, range(employeeIdKeys, prefix).values(), SuggestionDTO.Type.EMPLOYEE_ID, prefix,
+                new HashSet<>(), limit);
+        Set<Long> names = new HashSet<>();
+        addResources(candidates, range(nameKeys, prefix).values(), SuggestionDTO.Type.NAME, prefix, names, limit);
+        addResources(candidates, range(laterWordKeys, prefix).values(), SuggestionDTO.Type.NAME, prefix, names, limit);
+
+        return candidates.stream()
+                .sorted(Comparator.comparingInt(Candidate::rank)
+                        .thenComparing(candidate -> candidate.suggestion().getType())
+                        .thenComparing(candidate -> candidate.suggestion().getCount() != null
+                                ? -candidate.suggestion().getCount() : 0)
+                        .thenComparing(candidate -> candidate.suggestion().getValue()))
+                .limit(limit)
+                .map(Candidate::suggestion)
+                .toList();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c) || c == SEPARATOR) {
+                space = normalized.length() > 0;
+            } else {
+                if (space) {
+                    normalized.append(' ');
+                    space = false;
+                }
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    private void addResources(List<Candidate> candidates, Collection<Entry> matches, SuggestionDTO.Type type,
+                              String prefix, Set<Long> seen, int limit) {
+        for (Entry entry : matches) {
+            if (seen.size() >= limit) {
+                break;
+            }
+            if (!seen.add(entry.id())) {
+                continue;
+            }
+            String value = type == SuggestionDTO.Type.NAME ? entry.name() : entry.employeeId();
+            candidates.add(new Candidate(rank(value, prefix), SuggestionDTO.builder()
+                    .type(type)
+                    .value(value)
+                    .employeeId(entry.employeeId())
+                    .build()));
+        }
+    }
+
+    // 0 exact, 1 the whole value starts with the prefix, 2 a later word does
+    private static int rank(String value, String prefix) {
+        String normalized = normalize(value);
+        return normalized.equals(prefix) ? 0 : normalized.startsWith(prefix) ? 1 : 2;
+    }
+
+    private static <V> NavigableMap<String, V> range(ConcurrentSkipListMap<String, V> keys, String prefix) {
+        return keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void add(Entry entry) {
+        entries.put(entry.id(), entry);
+        List<String> keys = resourceKeys(entry.name(), entry.id());
+        for (int i = 0; i < keys.size(); i++) {
+            (i == 0 ? nameKeys : laterWordKeys).put(keys.get(i), entry);
+        }
+        if (entry.employeeId() != null) {
+            employeeIdKeys.put(normalize(entry.employeeId()) + SEPARATOR + entry.id(), entry);
+        }
+        for (Term term : entry.terms()) {
+            if (termCounts.merge(term, 1, Integer::sum) == 1) {
+                termKeys(term).forEach(key -> termKeys.put(key, term));
+            }
+        }
+    }
+
+    private void remove(Entry entry) {
+        entries.remove(entry.id());
+        List<String> keys = resourceKeys(entry.name(), entry.id());
+        for (int i = 0; i < keys.size(); i++) {
+            (i == 0 ? nameKeys : laterWordKeys).remove(keys.get(i));
+        }
+        if (entry.employeeId() != null) {
+            employeeIdKeys.remove(normalize(entry.employeeId()) + SEPARATOR + entry.id());
+        }
+        for (Term term : entry.terms()) {
+            if (termCounts.computeIfPresent(term, (key, count) -> count > 1 ? count - 1 : null) == null) {
+                termKeys(term).forEach(termKeys::remove);
+            }
+        }
+    }
+
+    private void clear() {
+        entries.clear();
+        nameKeys.clear();
+        laterWordKeys.clear();
+        employeeIdKeys.clear();
+        termKeys.clear();
+        termCounts.clear();
+    }
+
+    private static List<String> resourceKeys(String text, Long id) {
+        return suffixes(text).stream()
+                .map(word -> word + SEPARATOR + id)
+                .toList();
+    }
+
+    private static List<String> termKeys(Term term) {
+        return suffixes(term.value()).stream()
+                .map(word -> word + SEPARATOR + term.type() + SEPARATOR + term.value())
+                .toList();
+    }
+
+    // "Jane van Dyke" -> "jane van dyke", "van dyke", "dyke"
+    private static List<String> suffixes(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        List<String> suffixes = new ArrayList<>();
+        suffixes.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            suffixes.add(normalized.substring(i + 1));
+        }
+        return suffixes;
+    }
+
+    record Term(SuggestionDTO.Type type, String value) {
+    }
+
+    record Entry(Long id, String employeeId, String name, Set<Term> terms) {
+
+        static Entry of(ResourceRepository.SuggestSource source) {
+            Set<Term> terms = new HashSet<>();
+            if (source.getDesignation() != null && !source.getDesignation().isBlank()) {
+                terms.add(new Term(SuggestionDTO.Type.DESIGNATION, source.getDesignation().trim()));
+            }
+            if (source.getSkills() != null) {
+                for (String skill : source.getSkills().split(SKILL_SEPARATOR)) {
+                    if (!skill.isBlank()) {
+                        terms.add(new Term(SuggestionDTO.Type.SKILL, skill.trim()));
+                    }
+                }
+            }
+            return new Entry(source.getId(), source.getEmployeeId(), source.getName(), Set.copyOf(terms));
+        }
+    }
+
+    private record Candidate(int rank, SuggestionDTO suggestion) {
+    }
+}
@@ -1,14 +1,22 @@
 package com.xebia.talentacquisition.service;
 
 import com.xebia.talentacquisition.dto.AccountDTO;
+import com.xebia.talentacquisition.dto.AccountSoftBlockDTO;
 import com.xebia.talentacquisition.dto.ApiResponse;
+import com.xebia.talentacquisition.dto.PaginationResponse;
 import com.xebia.talentacquisition.entity.Account;
 import com.xebia.talentacquisition.repository.AccountRepository;
+import com.xebia.talentacquisition.repository.ResourceSoftBlockRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,11 +25,15 @@ import java.util.stream.Collectors;
 public class AccountService {
 
     private final AccountRepository accountRepository;
+    private final ResourceSoftBlockRepository resourceSoftBlockRepository;
 
     public ApiResponse<List<AccountDTO>> getAllAccounts() {
         List<Account> accounts = accountRepository.findAll();
+        Map<Long, Long> activeSoftBlocks = resourceSoftBlockRepository.countActiveByAccount(LocalDate.now()).stream()
+                .collect(Collectors.toMap(ResourceSoftBlockRepository.AccountBlockCount::getAccountId,
+                        ResourceSoftBlockRepository.AccountBlockCount::getCount));
         List<AccountDTO> accountDTOs = accounts.stream()
-                .map(this::toDTO)
+                .map(account -> toDTO(account, activeSoftBlocks.getOrDefault(account.getId(), 0L)))
                 .collect(Collectors.toList());
         
         return ApiResponse.<List<AccountDTO>>builder()
@@ -29,13 +41,43 @@ public class AccountService {
                 .build();
     }
 
-    private AccountDTO toDTO(Account account) {
+    @Transactional(readOnly = true)
+    public PaginationResponse<AccountSoftBlockDTO> getSoftBlocks(Long accountId, Integer page, Integer limit,
+                                                                 LocalDate expiresFrom, LocalDate expiresTo) {
+        if (!accountRepository.existsById(accountId)) {
+            throw new RuntimeException("Account not found with id: " + accountId);
+        }
+        // Without a lower bound only active blocks are listed
+        LocalDate from = expiresFrom != null ? expiresFrom : LocalDate.now();
+        if (expiresTo != null && from.isAfter(expiresTo)) {
+            throw new RuntimeException("expiresFrom must not be after expiresTo");
+        }
+        int pageNumber = (page != null && page > 0) ? page - 1 : 0;
+        int pageSize = (limit != null && limit > 0) ? limit : 10;
+        Page<AccountSoftBlockDTO> blockPage = resourceSoftBlockRepository.findByAccount(accountId, from, expiresTo,
+                PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.ASC, "blockedUntil", "resource.id")));
+
+        PaginationResponse.PaginationInfo paginationInfo = PaginationResponse.PaginationInfo.builder()
+                .currentPage(blockPage.getNumber() + 1)
+                .totalPages(blockPage.getTotalPages())
+                .totalItems(blockPage.getTotalElements())
+                .itemsPerPage(blockPage.getSize())
+                .build();
+
+        return PaginationResponse.<AccountSoftBlockDTO>builder()
+                .data(blockPage.getContent())
+                .pagination(paginationInfo)
+                .build();
+    }
+
+    private AccountDTO toDTO(Account account, Long activeSoftBlocks) {
         if (account == null) return null;
         
         return AccountDTO.builder()
                 .id(account.getId())
                 .name(account.getName())
                 .description(account.getDescription())
+                .activeSoftBlocks(activeSoftBlocks)
                 .createdAt(account.getCreatedAt())
                 .updatedAt(account.getUpdatedAt())
                 .build();
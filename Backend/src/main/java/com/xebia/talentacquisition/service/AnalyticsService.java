@@ -0,0 +1,70 @@
+package com.xebia.talentacquisition.service;
+
+import com.xebia.talentacquisition.analytics.BenchCube;
+import com.xebia.talentacquisition.analytics.Dimension;
+import com.xebia.talentacquisition.dto.ApiResponse;
+import com.xebia.talentacquisition.dto.PivotDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Ad-hoc pivots over the in-memory {@link BenchCube}. Nothing here reads the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalyticsService {
+
+    static final int MAX_DIMENSIONS = 3;
+    static final int MAX_CELLS = 1000;
+
+    private final BenchCube benchCube;
+
+    // Filters are "dimension:value", e.g. "status:ATP" or "skill:Java"
+    public ApiResponse<PivotDTO> pivot(List<String> dimensions, List<String> filters, Integer limit) {
+        List<Dimension> groupBy = parseDimensions(dimensions);
+        Map<Dimension, String> filterBy = parseFilters(filters);
+        int size = (limit != null && limit > 0) ? Math.min(limit, MAX_CELLS) : 100;
+        return ApiResponse.<PivotDTO>builder()
+                .data(benchCube.pivot(groupBy, filterBy, size))
+                .build();
+    }
+
+    private static List<Dimension> parseDimensions(List<String> dimensions) {
+        List<Dimension> parsed = new ArrayList<>();
+        if (dimensions != null) {
+            for (String key : dimensions) {
+                if (!key.isBlank()) {
+                    Dimension dimension = Dimension.of(key);
+                    if (parsed.contains(dimension)) {
+                        throw new RuntimeException("Dimension " + dimension.key() + " is given more than once");
+                    }
+                    parsed.add(dimension);
+                }
+            }
+        }
+        if (parsed.isEmpty() || parsed.size() > MAX_DIMENSIONS) {
+            throw new RuntimeException("Between 1 and " + MAX_DIMENSIONS + " dimensions are required");
+        }
+        return parsed;
+    }
+
+    private static Map<Dimension, String> parseFilters(List<String> filters) {
+        Map<Dimension, String> parsed = new EnumMap<>(Dimension.class);
+        if (filters == null) {
+            return parsed;
+        }
+        for (String filter : filters) {
+            int separator = filter.indexOf(':');
+            if (separator <= 0 || separator == filter.length() - 1) {
+                throw new RuntimeException("Invalid filter: " + filter + ", expected dimension:value");
+            }
+            Dimension dimension = Dimension.of(filter.substring(0, separator));
+            if (parsed.put(dimension, filter.substring(separator + 1).trim()) != null) {
+                throw new RuntimeException("Dimension " + dimension.key() + " is filtered more than once");
+            }
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,166 @@
+package com.xebia.talentacquisition.service;
+
+import com.xebia.talentacquisition.dto.ApiResponse;
+import com.xebia.talentacquisition.dto.BenchForecastWeekDTO;
+import com.xebia.talentacquisition.event.ResourceChangedEvent;
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Projects the bench headcount for the coming weeks. Every resource contributes a +1 event when it
+ * becomes available and a -1 event when its availability ends; the events are sorted once and swept
+ * into per-week snapshots. Results are cached until the next resource write commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class BenchForecastService {
+
+    static final int DEFAULT_WEEKS = 12;
+    static final int MAX_WEEKS = 104;
+    private static final int MAX_CACHED_FORECASTS = 128;
+    private static final String SKILL_SEPARATOR = "\u001f";
+
+    private final ResourceRepository resourceRepository;
+
+    private final Map<ForecastKey, List<BenchForecastWeekDTO>> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Transactional(readOnly = true)
+    public ApiResponse<List<BenchForecastWeekDTO>> getForecast(LocalDate from, Integer weeks) {
+        int weekCount = weeks != null ? weeks : DEFAULT_WEEKS;
+        if (weekCount < 1 || weekCount > MAX_WEEKS) {
+            throw new RuntimeException("weeks must be between 1 and " + MAX_WEEKS);
+        }
+        LocalDate firstWeek = (from != null ? from : LocalDate.now())
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        ForecastKey key = new ForecastKey(firstWeek, weekCount);
+
+        List<BenchForecastWeekDTO> forecast = cache.get(key);
+        if (forecast == null) {
+            long observed = generation.get();
+            forecast = computeForecast(firstWeek, weekCount);
+            // Skip caching if a write committed while the forecast was being computed
+            if (generation.get() == observed) {
+                if (cache.size() >= MAX_CACHED_FORECASTS) {
+                    cache.clear();
+                }
+                cache.put(key, forecast);
+            }
+        }
+        return ApiResponse.<List<BenchForecastWeekDTO>>builder()
+                .data(forecast)
+                .build();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onResourceChanged(ResourceChangedEvent event) {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private List<BenchForecastWeekDTO> computeForecast(LocalDate firstWeek, int weekCount) {
+        LocalDate horizon = firstWeek.plusWeeks(weekCount);
+        List<Event> events = new ArrayList<>();
+        try (Stream<ResourceRepository.BenchInterval> intervals =
+                     resourceRepository.streamBenchIntervals(firstWeek.toString(), horizon.toString())) {
+            intervals.forEach(interval -> addEvents(interval, horizon, events));
+        }
+        events.sort(Comparator.comparing(Event::date));
+        return sweep(events, firstWeek, weekCount);
+    }
+
+    static void addEvents(ResourceRepository.BenchInterval interval, LocalDate horizon, List<Event> events) {
+        LocalDate start = interval.getBenchFrom() != null ? interval.getBenchFrom() : LocalDate.MIN;
+        // A soft-blocked resource only returns to the bench the day after its last block ends
+        if (interval.getBlockedUntil() != null && !interval.getBlockedUntil().isBefore(start)) {
+            start = interval.getBlockedUntil().plusDays(1);
+        }
+        LocalDate end = interval.getBenchUntil();
+        if (!start.isBefore(horizon) || (end != null && !start.isBefore(end))) {
+            return;
+        }
+        String[] skills = interval.getSkills() != null ? interval.getSkills().split(SKILL_SEPARATOR) : new String[0];
+        events.add(new Event(start, 1, interval.getLocation(), skills));
+        if (end != null && end.isBefore(horizon)) {
+            events.add(new Event(end, -1, interval.getLocation(), skills));
+        }
+    }
+
+    // Snapshot for each week is the bench on its Monday; newATP counts arrivals since the previous snapshot.
+    // The first week has none, so it counts arrivals from the Monday before it on.
+    static List<BenchForecastWeekDTO> sweep(List<Event> events, LocalDate firstWeek, int weekCount) {
+        Map<String, Integer> bySkill = new HashMap<>();
+        Map<String, Integer> byLocation = new HashMap<>();
+        LocalDate previousWeek = firstWeek.minusWeeks(1);
+        int total = 0;
+        int firstWeekArrivals = 0;
+        int next = 0;
+        while (next < events.size() && events.get(next).date().isBefore(firstWeek)) {
+            Event event = events.get(next++);
+            total += apply(event, bySkill, byLocation);
+            if (event.delta() > 0 && !event.date().isBefore(previousWeek)) {
+                firstWeekArrivals++;
+            }
+        }
+
+        List<BenchForecastWeekDTO> weeks = new ArrayList<>(weekCount);
+        for (int i = 0; i < weekCount; i++) {
+            LocalDate week = firstWeek.plusWeeks(i);
+            int arrivals = i == 0 ? firstWeekArrivals : 0;
+            while (next < events.size() && !events.get(next).date().isAfter(week)) {
+                Event event = events.get(next++);
+                total += apply(event, bySkill, byLocation);
+                if (event.delta() > 0) {
+                    arrivals++;
+                }
+            }
+            weeks.add(BenchForecastWeekDTO.builder()
+                    .week(week.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
+                    .totalATP(total)
+                    .newATP(arrivals)
+                    .bySkill(snapshot(bySkill))
+                    .byLocation(snapshot(byLocation))
+                    .build());
+        }
+        return weeks;
+    }
+
+    private static int apply(Event event, Map<String, Integer> bySkill, Map<String, Integer> byLocation) {
+        for (String skill : event.skills()) {
+            bySkill.merge(skill, event.delta(), Integer::sum);
+        }
+        if (event.location() != null) {
+            byLocation.merge(event.location(), event.delta(), Integer::sum);
+        }
+        return event.delta();
+    }
+
+    private static Map<String, Integer> snapshot(Map<String, Integer> counts) {
+        Map<String, Integer> snapshot = new TreeMap<>();
+        counts.forEach((name, count) -> {
+            if (count > 0) {
+                snapshot.put(name, count);
+            }
+        });
+        return snapshot;
+    }
+
+    record Event(LocalDate date, int delta, String location, String[] skills) {
+    }
+
+    private record ForecastKey(LocalDate firstWeek, int weeks) {
+    }
+}
@@ -1,14 +1,27 @@
 package com.xebia.talentacquisition.service;
 
+import com.xebia.talentacquisition.coalescing.Coalesced;
 import com.xebia.talentacquisition.dto.*;
 import com.xebia.talentacquisition.entity.Account;
 import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.entity.ResourceSoftBlock;
+import com.xebia.talentacquisition.entity.Skill;
+import com.xebia.talentacquisition.event.ResourceChangedEvent;
+import com.xebia.talentacquisition.history.StatusTransitionLog;
+import com.xebia.talentacquisition.mapper.CachedResourceJson;
+import com.xebia.talentacquisition.mapper.ResourceJsonCache;
 import com.xebia.talentacquisition.mapper.ResourceMapper;
 import com.xebia.talentacquisition.repository.AccountRepository;
 import com.xebia.talentacquisition.repository.ResourceRepository;
+import com.xebia.talentacquisition.repository.ResourceSoftBlockRepository;
+import com.xebia.talentacquisition.search.SearchResultCache;
+import com.xebia.talentacquisition.search.SkillResolver;
+import com.xebia.talentacquisition.search.SuggestIndex;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.util.Strings;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -16,8 +29,26 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,20 +56,51 @@ import java.util.stream.Collectors;
 @Transactional
 public class ResourceService {
 
+    private static final int MAX_BATCH_GET_SIZE = 200;
+    private static final int MAX_BULK_SIZE = 10_000;
+    private static final int BULK_BATCH_SIZE = 1_000;
+    private static final int MAX_SUGGESTIONS = 50;
+
     private final ResourceRepository resourceRepository;
     private final AccountRepository accountRepository;
+    private final ResourceSoftBlockRepository resourceSoftBlockRepository;
     private final ResourceMapper resourceMapper;
+    private final ResourceJsonCache resourceJsonCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SkillResolver skillResolver;
+    private final SuggestIndex suggestIndex;
+    private final SearchResultCache searchResultCache;
+    private final StatusTransitionLog statusTransitionLog;
 
-    public PaginationResponse<ResourceDTO> getAllResources(
+    public PaginationResponse<CachedResourceJson> getAllResources(
             Integer page, Integer limit, Resource.ResourceStatus status,
-            String location, String skill, String search, String sortBy, String sortOrder) {
+            String location, String skill, String search, LocalDate availableFrom, LocalDate availableTo,
+            String sortBy, String sortOrder, boolean includeFacets) {
         
+        validateAvailabilityWindow(availableFrom, availableTo);
         Pageable pageable = createPageable(page, limit, sortBy, sortOrder);
         String statusStr = status != null ? status.name() : null;
-        Page<Resource> resourcePage = resourceRepository.findWithFilters(statusStr, location, skill, search, pageable);
+        String skillParam = resolveSkillParam(skill);
+        SearchResultCache.Key cacheKey = searchResultCache.key("resources", statusStr, location, sortedSkills(skillParam),
+                lowerCase(search), availableFrom, availableTo, pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort().toString(), includeFacets);
+        SearchResultCache.Result cached = searchResultCache.get(cacheKey);
+        Page<Resource> resourcePage;
+        FacetsDTO facets;
+        if (cached != null) {
+            resourcePage = new PageImpl<>(findAllInOrder(cached.ids()), pageable, cached.total());
+            facets = cached.facets();
+        } else {
+            resourcePage = resourceRepository.findWithFilters(
+                    statusStr, location, skillParam, search,
+                    dateParam(availableFrom), dateParam(availableTo), pageable);
+            facets = includeFacets ? toFacets(resourceRepository.findFacetsWithFilters(
+                    statusStr, location, skillParam, search, dateParam(availableFrom), dateParam(availableTo))) : null;
+            searchResultCache.put(cacheKey, cacheResult(resourcePage.getContent(), resourcePage.getTotalElements(), facets));
+        }
         
-        List<ResourceDTO> dtos = resourcePage.getContent().stream()
-                .map(resourceMapper::toDTO)
+        List<CachedResourceJson> dtos = resourcePage.getContent().stream()
+                .map(resourceJsonCache::toJson)
                 .collect(Collectors.toList());
         
         PaginationResponse.PaginationInfo paginationInfo = PaginationResponse.PaginationInfo.builder()
@@ -48,17 +110,45 @@ public class ResourceService {
                 .itemsPerPage(resourcePage.getSize())
                 .build();
         
-        return PaginationResponse.<ResourceDTO>builder()
+        return PaginationResponse.<CachedResourceJson>builder()
                 .data(dtos)
                 .pagination(paginationInfo)
+                .facets(facets)
                 .build();
     }
 
-    public ApiResponse<ResourceDTO> getResourceById(String id) {
+    public ApiResponse<CachedResourceJson> getResourceById(String id) {
         Resource resource = resourceRepository.findByEmployeeId(id)
                 .orElseThrow(() -> new RuntimeException("Resource not found with id: " + id));
-        return ApiResponse.<ResourceDTO>builder()
-                .data(resourceMapper.toDTO(resource))
+        return ApiResponse.<CachedResourceJson>builder()
+                .data(resourceJsonCache.toJson(resource))
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public ApiResponse<List<BatchGetResultDTO>> getResourcesByEmployeeIds(List<String> employeeIds) {
+        if (employeeIds.size() > MAX_BATCH_GET_SIZE) {
+            throw new RuntimeException("Cannot fetch more than " + MAX_BATCH_GET_SIZE + " resources per batch");
+        }
+        
+        List<String> distinctIds = employeeIds.stream()
+                .filter(Strings::isNotBlank)
+                .distinct()
+                .toList();
+        Map<String, ResourceDTO> found = distinctIds.isEmpty() ? Map.of()
+                : resourceRepository.findAllByEmployeeIds(distinctIds).stream()
+                        .collect(Collectors.toMap(Resource::getEmployeeId, resourceMapper::toDTO));
+        
+        List<BatchGetResultDTO> results = employeeIds.stream()
+                .map(employeeId -> BatchGetResultDTO.builder()
+                        .employeeId(employeeId)
+                        .found(found.containsKey(employeeId))
+                        .resource(found.get(employeeId))
+                        .build())
+                .collect(Collectors.toList());
+        
+        return ApiResponse.<List<BatchGetResultDTO>>builder()
+                .data(results)
                 .build();
     }
 
@@ -72,6 +162,9 @@ public class ResourceService {
         
         Resource resource = resourceMapper.toEntity(dto);
         resource = resourceRepository.save(resource);
+        statusTransitionLog.record(resource.getId(), null, resource.getStatus());
+        skillResolver.register(resource.getSkills().stream().map(Skill::getName).toList());
+        eventPublisher.publishEvent(ResourceChangedEvent.updated(List.of(resource.getId())));
         return ApiResponse.<ResourceDTO>builder()
                 .data(resourceMapper.toDTO(resource))
                 .build();
@@ -80,6 +173,7 @@ public class ResourceService {
     public ApiResponse<ResourceDTO> updateResource(Long id, ResourceDTO dto) {
         Resource resource = resourceRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Resource not found with id: " + id));
+        Resource.ResourceStatus previousStatus = resource.getStatus();
         
         if (dto.getName() != null) resource.setName(dto.getName());
         if (dto.getEmail() != null) resource.setEmail(dto.getEmail());
@@ -90,29 +184,174 @@ public class ResourceService {
         if (dto.getReleaseDate() != null) resource.setReleaseDate(dto.getReleaseDate());
         if (dto.getTotalExperience() != null) resource.setTotalExperience(dto.getTotalExperience());
         if (dto.getSkills() != null) {
-            resource.setSkills(dto.getSkills().stream()
+            replaceSkills(resource.getSkills(), dto.getSkills().stream()
                     .map(resourceMapper::skillToEntity)
                     .collect(Collectors.toList()));
+            skillResolver.register(resource.getSkills().stream().map(Skill::getName).toList());
         }
         if (dto.getCtc() != null) resource.setCtc(dto.getCtc());
         if (dto.getCtcCurrency() != null) resource.setCtcCurrency(dto.getCtcCurrency());
+        // Skill changes alone would leave the row clean, and updatedAt validates cached JSON
+        resource.setUpdatedAt(LocalDateTime.now());
         
         resource = resourceRepository.save(resource);
+        statusTransitionLog.record(resource.getId(), previousStatus, resource.getStatus());
+        eventPublisher.publishEvent(ResourceChangedEvent.updated(List.of(resource.getId())));
         return ApiResponse.<ResourceDTO>builder()
                 .data(resourceMapper.toDTO(resource))
                 .build();
     }
 
+    // Changes the list in place, matching skills by name, so a kept skill stays at its position (skill_order)
+    // and is only written when its attributes change. New skills take the positions of removed ones first;
+    // positions left over are filled from the end of the list, so no other skill shifts.
+    static void replaceSkills(List<Skill> current, List<Skill> updated) {
+        Map<String, Deque<Skill>> pending = new LinkedHashMap<>();
+        for (Skill skill : updated) {
+            pending.computeIfAbsent(skill.getName(), name -> new ArrayDeque<>()).add(skill);
+        }
+        List<Integer> free = new ArrayList<>();
+        for (int i = 0; i < current.size(); i++) {
+            Deque<Skill> matches = pending.get(current.get(i).getName());
+            Skill match = matches != null ? matches.poll() : null;
+            if (match == null) {
+                free.add(i);
+            } else if (!current.get(i).equals(match)) {
+                current.set(i, match);
+            }
+        }
+        Iterator<Integer> positions = free.iterator();
+        for (Skill skill : updated) {
+            if (pending.get(skill.getName()).remove(skill)) {
+                if (positions.hasNext()) {
+                    current.set(positions.next(), skill);
+                } else {
+                    current.add(skill);
+                }
+            }
+        }
+        Set<Integer> unused = new LinkedHashSet<>();
+        positions.forEachRemaining(unused::add);
+        int size = current.size();
+        for (int position : unused) {
+            while (size > position && unused.contains(size - 1)) {
+                size--;
+            }
+            if (position >= size) {
+                break;
+            }
+            current.set(position, current.get(--size));
+        }
+        while (current.size() > size) {
+            current.remove(current.size() - 1);
+        }
+    }
+
     public ApiResponse<Map<String, String>> deleteResource(Long id) {
-        if (!resourceRepository.existsById(id)) {
+        List<BulkOperationResultDTO> results = deleteByIds(List.of(id));
+        if (results.get(0).getOutcome() == BulkOperationResultDTO.Outcome.NOT_FOUND) {
             throw new RuntimeException("Resource not found with id: " + id);
         }
-        resourceRepository.deleteById(id);
         return ApiResponse.<Map<String, String>>builder()
                 .data(Map.of("message", "Resource deleted successfully"))
                 .build();
     }
 
+    public ApiResponse<List<BulkOperationResultDTO>> bulkUpdateStatus(List<Long> ids, Resource.ResourceStatus status) {
+        if (status == null) {
+            throw new RuntimeException("Status is required");
+        }
+        List<BulkOperationResultDTO> results = applyInBatches(ids, BulkOperationResultDTO.Outcome.UPDATED,
+                batch -> {
+                    statusTransitionLog.recordBulk(batch, status);
+                    resourceRepository.updateStatusByIds(batch, status.name());
+                });
+        publishChanges(results, false);
+        return ApiResponse.<List<BulkOperationResultDTO>>builder()
+                .data(results)
+                .build();
+    }
+
+    public ApiResponse<List<BulkOperationResultDTO>> bulkSoftBlock(List<Long> ids, Long accountId, LocalDate blockedUntil) {
+        if (accountId == null || blockedUntil == null) {
+            throw new RuntimeException("Account ID and blocked until date are required");
+        }
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new RuntimeException("Account not found with id: " + accountId));
+        
+        List<BulkOperationResultDTO> results = applyInBatches(ids, BulkOperationResultDTO.Outcome.SOFT_BLOCKED, batch -> {
+            // Extend existing blocks in place, then batch-insert blocks for the rest
+            resourceSoftBlockRepository.updateBlockedUntil(accountId, batch, blockedUntil);
+            Set<Long> alreadyBlocked = new HashSet<>(resourceSoftBlockRepository.findBlockedResourceIds(accountId, batch));
+            List<ResourceSoftBlock> newBlocks = batch.stream()
+                    .filter(id -> !alreadyBlocked.contains(id))
+                    .map(id -> ResourceSoftBlock.builder()
+                            .resource(resourceRepository.getReferenceById(id))
+                            .account(account)
+                            .blockedUntil(blockedUntil)
+                            .build())
+                    .collect(Collectors.toList());
+            resourceSoftBlockRepository.saveAll(newBlocks);
+            resourceRepository.touchByIds(batch);
+        });
+        publishChanges(results, false);
+        return ApiResponse.<List<BulkOperationResultDTO>>builder()
+                .data(results)
+                .build();
+    }
+
+    public ApiResponse<List<BulkOperationResultDTO>> bulkDelete(List<Long> ids) {
+        return ApiResponse.<List<BulkOperationResultDTO>>builder()
+                .data(deleteByIds(ids))
+                .build();
+    }
+
+    private List<BulkOperationResultDTO> deleteByIds(List<Long> ids) {
+        List<BulkOperationResultDTO> results = applyInBatches(ids, BulkOperationResultDTO.Outcome.DELETED, batch -> {
+            resourceRepository.softDeleteByIds(batch);
+        });
+        publishChanges(results, true);
+        return results;
+    }
+
+    private void publishChanges(List<BulkOperationResultDTO> results, boolean deleted) {
+        List<Long> changedIds = results.stream()
+                .filter(result -> result.getOutcome() != BulkOperationResultDTO.Outcome.NOT_FOUND)
+                .map(BulkOperationResultDTO::getId)
+                .toList();
+        if (!changedIds.isEmpty()) {
+            eventPublisher.publishEvent(deleted
+                    ? ResourceChangedEvent.deleted(changedIds)
+                    : ResourceChangedEvent.updated(changedIds));
+        }
+    }
+
+    private List<BulkOperationResultDTO> applyInBatches(
+            List<Long> ids, BulkOperationResultDTO.Outcome outcome, Consumer<List<Long>> operation) {
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new RuntimeException("Cannot process more than " + MAX_BULK_SIZE + " resources per bulk request");
+        }
+        
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        Set<Long> applied = new HashSet<>();
+        for (int from = 0; from < distinctIds.size(); from += BULK_BATCH_SIZE) {
+            List<Long> batch = distinctIds.subList(from, Math.min(from + BULK_BATCH_SIZE, distinctIds.size()));
+            List<Long> existing = resourceRepository.findExistingIds(batch);
+            if (!existing.isEmpty()) {
+                operation.accept(existing);
+                applied.addAll(existing);
+            }
+        }
+        
+        return distinctIds.stream()
+                .map(id -> BulkOperationResultDTO.builder()
+                        .id(id)
+                        .outcome(applied.contains(id) ? outcome : BulkOperationResultDTO.Outcome.NOT_FOUND)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Coalesced("resource-statistics")
     public ApiResponse<StatisticsDTO> getResourceStatistics() {
         List<Resource> allResources = resourceRepository.findAll();
         
@@ -157,20 +396,120 @@ public class ResourceService {
                 .build();
     }
 
+    public ApiResponse<List<SuggestionDTO>> suggest(String query, Integer limit) {
+        int size = (limit != null && limit > 0) ? Math.min(limit, MAX_SUGGESTIONS) : 10;
+        return ApiResponse.<List<SuggestionDTO>>builder()
+                .data(suggestIndex.suggest(query, size))
+                .build();
+    }
+
     public List<ResourceDTO> exportResources(
             String format, Resource.ResourceStatus status,
-            String location, String skill, String search) {
+            String location, String skill, String search, LocalDate availableFrom, LocalDate availableTo) {
+        validateAvailabilityWindow(availableFrom, availableTo);
         // Get all resources matching filters (no pagination for export)
         Pageable pageable = PageRequest.of(0, Integer.MAX_VALUE);
         String statusStr = status != null ? status.name() : null;
         Page<Resource> resourcePage = resourceRepository.findWithFilters(
-                statusStr, location, skill, search, pageable);
+                statusStr, location, resolveSkillParam(skill), search,
+                dateParam(availableFrom), dateParam(availableTo), pageable);
         
         return resourcePage.getContent().stream()
                 .map(resourceMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
+    private void validateAvailabilityWindow(LocalDate availableFrom, LocalDate availableTo) {
+        if (availableFrom != null && availableTo != null && availableFrom.isAfter(availableTo)) {
+            throw new RuntimeException("availableFrom must not be after availableTo");
+        }
+    }
+
+    private String dateParam(LocalDate date) {
+        return date != null ? date.toString() : null;
+    }
+
+    private String resolveSkillParam(String skill) {
+        return Strings.isNotBlank(skill) ? skillResolver.resolveAll(List.of(skill)).skillsParam() : skill;
+    }
+
+    // Loads resources by id, keeping the order of the ids
+    private List<Resource> findAllInOrder(List<Long> ids) {
+        Map<Long, Resource> byId = resourceRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Resource::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private SearchResultCache.Result cacheResult(List<Resource> resources, long total, FacetsDTO facets) {
+        return new SearchResultCache.Result(resources.stream().map(Resource::getId).toList(), total, facets);
+    }
+
+    // Cache key forms: skill lists are matched as sets, free text case-insensitively
+    private String sortedSkills(String skillsParam) {
+        return skillsParam != null ? Arrays.stream(skillsParam.split(",")).sorted().collect(Collectors.joining(",")) : null;
+    }
+
+    // The stored names each requested skill resolved to, so both the names and how they are grouped into
+    // requested skills are part of the key
+    static List<List<String>> skillGroups(SkillResolver.ResolvedSkills skills) {
+        Map<Integer, List<String>> byGroup = new TreeMap<>();
+        for (int i = 0; i < skills.skills().size(); i++) {
+            byGroup.computeIfAbsent(skills.groups().get(i), group -> new ArrayList<>()).add(skills.skills().get(i));
+        }
+        return byGroup.values().stream()
+                .map(forms -> forms.stream().sorted().toList())
+                .sorted(Comparator.comparing(List::toString))
+                .toList();
+    }
+
+    private Map<String, Integer> normalizedTerms(Map<String, Integer> terms) {
+        return terms.entrySet().stream()
+                .collect(Collectors.toMap(entry -> SkillResolver.normalize(entry.getKey()), Map.Entry::getValue,
+                        Math::max, TreeMap::new));
+    }
+
+    private String lowerCase(String text) {
+        return text != null ? text.toLowerCase(Locale.ROOT) : null;
+    }
+
+    private FacetsDTO toFacets(List<ResourceRepository.FacetCount> counts) {
+        Map<String, Map<String, Long>> byFacet = new HashMap<>();
+        for (ResourceRepository.FacetCount count : counts) {
+            // Resources without a location have no facet value
+            if (count.getValue() != null) {
+                byFacet.computeIfAbsent(count.getFacet(), facet -> new HashMap<>())
+                        .put(count.getValue(), count.getCount());
+            }
+        }
+        return FacetsDTO.builder()
+                .status(sortedByCount(byFacet.getOrDefault("status", Map.of())))
+                .location(sortedByCount(byFacet.getOrDefault("location", Map.of())))
+                .skills(sortedByCount(byFacet.getOrDefault("skill", Map.of())))
+                .build();
+    }
+
+    private FacetsDTO facetsOf(List<Resource> resources) {
+        return FacetsDTO.builder()
+                .status(sortedByCount(resources.stream()
+                        .collect(Collectors.groupingBy(resource -> resource.getStatus().name(), Collectors.counting()))))
+                .location(sortedByCount(resources.stream()
+                        .filter(resource -> resource.getLocation() != null)
+                        .collect(Collectors.groupingBy(Resource::getLocation, Collectors.counting()))))
+                .skills(sortedByCount(resources.stream()
+                        .flatMap(resource -> resource.getSkills().stream().map(Skill::getName).distinct())
+                        .collect(Collectors.groupingBy(name -> name, Collectors.counting()))))
+                .build();
+    }
+
+    private Map<String, Long> sortedByCount(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
     private Pageable createPageable(Integer page, Integer limit, String sortBy, String sortOrder) {
         int pageNumber = (page != null && page > 0) ? page - 1 : 0;
         int pageSize = (limit != null && limit > 0) ? limit : 10;
@@ -186,24 +525,41 @@ public class ResourceService {
         return PageRequest.of(pageNumber, pageSize, sort);
     }
 
-    public PaginationResponse<ResourceDTO> getResourcesBySkills(SearchDto searchDto) {
+    public PaginationResponse<CachedResourceJson> getResourcesBySkills(SearchDto searchDto) {
         
         // For skill search, we sort by match count (handled in query), so use unsorted Pageable
         int pageNumber = (searchDto.getPage() != null && searchDto.getPage() > 0) ? searchDto.getPage() - 1 : 0;
         int pageSize = (searchDto.getLimit() != null && searchDto.getLimit() > 0) ? searchDto.getLimit() : 10;
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
         
-        // Convert list of skills to comma-separated string for the query
-        String skillNamesParam = (searchDto.getSkills() != null && !searchDto.getSkills().isEmpty())
-                ? String.join(",", searchDto.getSkills())
-                : null;
+        // Resolve each requested skill to the stored spellings and synonyms, comma-separated for the query
+        SkillResolver.ResolvedSkills skills = skillResolver.resolveAll(
+                searchDto.getSkills() != null ? searchDto.getSkills() : List.of());
+        String skillNamesParam = skills.skillsParam();
         String locationParam = Strings.isNotBlank(searchDto.getLocation()) ? searchDto.getLocation() : null;
+        validateAvailabilityWindow(searchDto.getAvailableFrom(), searchDto.getAvailableTo());
+        
+        SearchResultCache.Key cacheKey = searchResultCache.key("search-by-skills", skillGroups(skills),
+                locationParam, searchDto.getExperience(), searchDto.getAvailableFrom(), searchDto.getAvailableTo(),
+                pageNumber, pageSize, searchDto.isIncludeFacets());
+        SearchResultCache.Result cached = searchResultCache.get(cacheKey);
+        Page<Resource> resourcePage;
+        FacetsDTO facets;
+        if (cached != null) {
+            resourcePage = new PageImpl<>(findAllInOrder(cached.ids()), pageable, cached.total());
+            facets = cached.facets();
+        } else {
+            resourcePage = resourceRepository.findBySkillsAndLocation(
+                    skillNamesParam, skills.groupsParam(), locationParam, searchDto.getExperience(),
+                    dateParam(searchDto.getAvailableFrom()), dateParam(searchDto.getAvailableTo()), pageable);
+            facets = searchDto.isIncludeFacets() ? toFacets(resourceRepository.findFacetsBySkillsAndLocation(
+                    skillNamesParam, locationParam, searchDto.getExperience(),
+                    dateParam(searchDto.getAvailableFrom()), dateParam(searchDto.getAvailableTo()))) : null;
+            searchResultCache.put(cacheKey, cacheResult(resourcePage.getContent(), resourcePage.getTotalElements(), facets));
+        }
         
-        Page<Resource> resourcePage = resourceRepository.findBySkillsAndLocation(
-                skillNamesParam, locationParam, searchDto.getExperience(), pageable);
-        
-        List<ResourceDTO> dtos = resourcePage.getContent().stream()
-                .map(resourceMapper::toDTO)
+        List<CachedResourceJson> dtos = resourcePage.getContent().stream()
+                .map(resourceJsonCache::toJson)
                 .collect(Collectors.toList());
         
         PaginationResponse.PaginationInfo paginationInfo = PaginationResponse.PaginationInfo.builder()
@@ -213,13 +569,14 @@ public class ResourceService {
                 .itemsPerPage(resourcePage.getSize())
                 .build();
         
-        return PaginationResponse.<ResourceDTO>builder()
+        return PaginationResponse.<CachedResourceJson>builder()
                 .data(dtos)
                 .pagination(paginationInfo)
+                .facets(facets)
                 .build();
     }
 
-    public PaginationResponse<ResourceDTO> searchByPrimaryAndSecondarySkills(
+    public PaginationResponse<CachedResourceJson> searchByPrimaryAndSecondarySkills(
             com.xebia.talentacquisition.dto.SkillBasedSearchDto searchDto) {
         
         // Validate primary skills are provided
@@ -232,18 +589,29 @@ public class ResourceService {
         int pageSize = 1000; // Large page size to get all results for in-memory filtering
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
         
-        // Convert lists to comma-separated strings for the query
-        String primarySkillsParam = (searchDto.getPrimarySkills() != null && !searchDto.getPrimarySkills().isEmpty())
-                ? String.join(",", searchDto.getPrimarySkills())
-                : null;
+        // Resolve lists to stored skill names; every primary term must be matched by one of its spellings
+        SkillResolver.ResolvedSkills primarySkills = skillResolver.resolveAll(searchDto.getPrimarySkills());
+        
+        SkillResolver.ResolvedSkills secondarySkills = skillResolver.resolveAll(
+                searchDto.getSecondarySkills() != null ? searchDto.getSecondarySkills() : List.of());
         
-        String secondarySkillsParam = (searchDto.getSecondarySkills() != null && !searchDto.getSecondarySkills().isEmpty())
-                ? String.join(",", searchDto.getSecondarySkills())
-                : null;
+        validateAvailabilityWindow(searchDto.getAvailableFrom(), searchDto.getAvailableTo());
+        
+        SearchResultCache.Key cacheKey = searchResultCache.key("search-by-primary-secondary-skills",
+                skillGroups(primarySkills), skillGroups(secondarySkills),
+                searchDto.getSkillExperienceMap() != null ? normalizedTerms(searchDto.getSkillExperienceMap()) : null,
+                searchDto.getLocation(), searchDto.getExperience(), searchDto.getAvailableFrom(),
+                searchDto.getAvailableTo(), searchDto.isIncludeFacets());
+        SearchResultCache.Result cached = searchResultCache.get(cacheKey);
+        if (cached != null) {
+            return primarySecondaryResponse(findAllInOrder(cached.ids()), cached.facets());
+        }
         
         Page<Resource> resourcePage = resourceRepository.findByPrimaryAndSecondarySkills(
-                primarySkillsParam, secondarySkillsParam, 
-                searchDto.getLocation(), searchDto.getExperience(), pageable);
+                primarySkills.skillsParam(), primarySkills.groupsParam(),
+                secondarySkills.skillsParam(), secondarySkills.groupsParam(),
+                searchDto.getLocation(), searchDto.getExperience(),
+                dateParam(searchDto.getAvailableFrom()), dateParam(searchDto.getAvailableTo()), pageable);
         
         // Filter by skill experience requirements if provided
         // Also count total matched skills for sorting (primary + secondary matches)
@@ -252,12 +620,12 @@ public class ResourceService {
             filteredResources = resourcePage.getContent().stream()
                     .filter(resource -> {
                         for (Map.Entry<String, Integer> entry : searchDto.getSkillExperienceMap().entrySet()) {
-                            String skillName = entry.getKey();
+                            Set<String> skillNames = skillResolver.resolve(entry.getKey());
                             Integer requiredExperience = entry.getValue();
                             
                             // Check if resource has this skill with required experience (as PRIMARY or SECONDARY)
                             boolean hasRequiredExperience = resource.getSkills().stream()
-                                    .anyMatch(skill -> skill.getName().equals(skillName) 
+                                    .anyMatch(skill -> skillNames.contains(skill.getName()) 
                                             && skill.getYearsOfExperience() != null 
                                             && skill.getYearsOfExperience() >= requiredExperience);
                             
@@ -274,8 +642,15 @@ public class ResourceService {
         // The query sorts by (primary matches + secondary matches) descending, then by name
         // Secondary skills are "good to have" - resources are returned even without them
         
-        List<ResourceDTO> dtos = filteredResources.stream()
-                .map(resourceMapper::toDTO)
+        // The whole result is already in memory after the skill experience filter, so count it here
+        FacetsDTO facets = searchDto.isIncludeFacets() ? facetsOf(filteredResources) : null;
+        searchResultCache.put(cacheKey, cacheResult(filteredResources, filteredResources.size(), facets));
+        return primarySecondaryResponse(filteredResources, facets);
+    }
+
+    private PaginationResponse<CachedResourceJson> primarySecondaryResponse(List<Resource> filteredResources, FacetsDTO facets) {
+        List<CachedResourceJson> dtos = filteredResources.stream()
+                .map(resourceJsonCache::toJson)
                 .collect(Collectors.toList());
         
         // Calculate pagination info manually since we filtered in memory
@@ -289,9 +664,10 @@ public class ResourceService {
                 .itemsPerPage(totalItems > 0 ? totalItems : 1)
                 .build();
         
-        return PaginationResponse.<ResourceDTO>builder()
+        return PaginationResponse.<CachedResourceJson>builder()
                 .data(dtos)
                 .pagination(paginationInfo)
+                .facets(facets)
                 .build();
     }
 
@@ -322,7 +698,9 @@ public class ResourceService {
             existingBlock.setBlockedUntil(blockedUntil);
         }
         
+        resource.setUpdatedAt(LocalDateTime.now());
         Resource savedResource = resourceRepository.save(resource);
+        eventPublisher.publishEvent(ResourceChangedEvent.updated(List.of(savedResource.getId())));
         
         return ApiResponse.<ResourceDTO>builder()
                 .data(resourceMapper.toDTO(savedResource))
@@ -0,0 +1,199 @@
+package com.xebia.talentacquisition.service;
+
+import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.entity.SavedSearch;
+import com.xebia.talentacquisition.entity.SavedSearchMatch;
+import com.xebia.talentacquisition.entity.Skill;
+import com.xebia.talentacquisition.event.ResourceChangedEvent;
+import com.xebia.talentacquisition.event.SavedSearchChangedEvent;
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import com.xebia.talentacquisition.repository.SavedSearchMatchRepository;
+import com.xebia.talentacquisition.repository.SavedSearchRepository;
+import com.xebia.talentacquisition.search.SkillResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates changed resources against all saved searches. Every skill of a search is resolved through
+ * {@link SkillResolver} to the stored spellings, as the search endpoints do, and searches are indexed by
+ * those spellings, so a change only checks the searches that share at least one skill with the resource.
+ */
+@Component
+@RequiredArgsConstructor
+public class SavedSearchPercolator {
+
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchMatchRepository savedSearchMatchRepository;
+    private final ResourceRepository resourceRepository;
+    private final SkillResolver skillResolver;
+
+    private volatile QueryIndex index = QueryIndex.of(List.of(), -1);
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void loadIndex() {
+        long version = skillResolver.vocabularyVersion();
+        index = QueryIndex.of(savedSearchRepository.findAllWithSkills().stream()
+                .map(savedSearch -> Criteria.of(savedSearch, skillResolver::resolve))
+                .toList(), version);
+    }
+
+    // Runs once the saved search is committed, so a rolled back create never matches anything
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onSavedSearchChanged(SavedSearchChangedEvent event) {
+        Map<Long, Criteria> criteria = new HashMap<>(index.all());
+        Optional<SavedSearch> savedSearch = event.deleted()
+                ? Optional.empty() : savedSearchRepository.findByIdWithSkills(event.savedSearchId());
+        savedSearch.ifPresentOrElse(
+                found -> criteria.put(found.getId(), Criteria.of(found, skillResolver::resolve)),
+                () -> criteria.remove(event.savedSearchId()));
+        index = QueryIndex.of(criteria.values(), index.vocabularyVersion());
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onResourceChanged(ResourceChangedEvent event) {
+        QueryIndex current = currentIndex();
+        if (event.deleted() || current.all().isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(event.resourceIds());
+        for (int from = 0; from < ids.size(); from += LOAD_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + LOAD_BATCH_SIZE, ids.size()));
+            resourceRepository.findAllById(batch).forEach(resource -> percolate(current, resource));
+        }
+    }
+
+    public int size() {
+        return index.all().size();
+    }
+
+    // Writes register new skill spellings before they commit, so resolve again when the vocabulary moved on
+    private QueryIndex currentIndex() {
+        QueryIndex current = index;
+        if (current.vocabularyVersion() == skillResolver.vocabularyVersion()) {
+            return current;
+        }
+        synchronized (this) {
+            long version = skillResolver.vocabularyVersion();
+            if (index.vocabularyVersion() != version) {
+                index = QueryIndex.of(index.all().values().stream()
+                        .map(criteria -> criteria.resolvedWith(skillResolver::resolve))
+                        .toList(), version);
+            }
+            return index;
+        }
+    }
+
+    private void percolate(QueryIndex current, Resource resource) {
+        Set<String> skills = resource.getSkills().stream()
+                .map(Skill::getName)
+                .collect(Collectors.toSet());
+        List<Long> matched = current.candidates(skills).stream()
+                .filter(criteria -> criteria.matches(resource, skills))
+                .map(Criteria::id)
+                .toList();
+        if (matched.isEmpty()) {
+            return;
+        }
+
+        Set<Long> alreadyMatched = new HashSet<>(
+                savedSearchMatchRepository.findMatchedSavedSearchIds(resource.getId(), matched));
+        List<SavedSearchMatch> newMatches = matched.stream()
+                .filter(id -> !alreadyMatched.contains(id))
+                .map(id -> SavedSearchMatch.builder()
+                        .savedSearch(savedSearchRepository.getReferenceById(id))
+                        .resourceId(resource.getId())
+                        .build())
+                .collect(Collectors.toList());
+        savedSearchMatchRepository.saveAll(newMatches);
+    }
+
+    // skills holds the stored spellings of every requested term, in request order
+    record Criteria(Long id, List<String> terms, List<Set<String>> skills, SavedSearch.MatchMode matchMode,
+                    String location, Integer experience, Resource.ResourceStatus status) {
+
+        static Criteria of(SavedSearch savedSearch, Function<String, Set<String>> resolver) {
+            return new Criteria(savedSearch.getId(), List.copyOf(savedSearch.getSkills()), List.of(),
+                    savedSearch.getMatchMode(), savedSearch.getLocation(), savedSearch.getExperience(),
+                    savedSearch.getStatus()).resolvedWith(resolver);
+        }
+
+        Criteria resolvedWith(Function<String, Set<String>> resolver) {
+            List<Set<String>> resolved = terms.stream()
+                    .filter(term -> term != null && !term.isBlank())
+                    .map(resolver)
+                    .map(Set::copyOf)
+                    .distinct()
+                    .toList();
+            return new Criteria(id, terms, resolved, matchMode, location, experience, status);
+        }
+
+        // Same predicates as the skill search queries in ResourceRepository
+        boolean matches(Resource resource, Set<String> resourceSkills) {
+            if (status != null && resource.getStatus() != status) {
+                return false;
+            }
+            if (location != null && !location.equals(resource.getLocation())) {
+                return false;
+            }
+            if (experience != null
+                    && (resource.getTotalExperience() == null || resource.getTotalExperience() < experience - 5)) {
+                return false;
+            }
+            if (skills.isEmpty()) {
+                return true;
+            }
+            return matchMode == SavedSearch.MatchMode.ALL
+                    ? skills.stream().allMatch(forms -> forms.stream().anyMatch(resourceSkills::contains))
+                    : skills.stream().anyMatch(forms -> forms.stream().anyMatch(resourceSkills::contains));
+        }
+    }
+
+    record QueryIndex(Map<Long, Criteria> all, Map<String, List<Criteria>> bySkill, List<Criteria> unconstrained,
+                      long vocabularyVersion) {
+
+        static QueryIndex of(Collection<Criteria> criteria, long vocabularyVersion) {
+            Map<Long, Criteria> all = new HashMap<>();
+            Map<String, List<Criteria>> bySkill = new HashMap<>();
+            List<Criteria> unconstrained = new ArrayList<>();
+            for (Criteria c : criteria) {
+                all.put(c.id(), c);
+                if (c.skills().isEmpty()) {
+                    unconstrained.add(c);
+                } else if (c.matchMode() == SavedSearch.MatchMode.ALL) {
+                    // Every term is required, so posting under the spellings of one of them is enough
+                    c.skills().get(0).forEach(skill -> bySkill.computeIfAbsent(skill, k -> new ArrayList<>()).add(c));
+                } else {
+                    c.skills().stream().flatMap(Set::stream).distinct()
+                            .forEach(skill -> bySkill.computeIfAbsent(skill, k -> new ArrayList<>()).add(c));
+                }
+            }
+            return new QueryIndex(Map.copyOf(all), Map.copyOf(bySkill), List.copyOf(unconstrained), vocabularyVersion);
+        }
+
+        Collection<Criteria> candidates(Set<String> resourceSkills) {
+            Map<Long, Criteria> candidates = new LinkedHashMap<>();
+            unconstrained.forEach(c -> candidates.put(c.id(), c));
+            for (String skill : resourceSkills) {
+                bySkill.getOrDefault(skill, List.of()).forEach(c -> candidates.putIfAbsent(c.id(), c));
+            }
+            return candidates.values();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.xebia.talentacquisition.service;
+
+import com.xebia.talentacquisition.dto.*;
+import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.entity.SavedSearch;
+import com.xebia.talentacquisition.entity.SavedSearchMatch;
+import com.xebia.talentacquisition.event.SavedSearchChangedEvent;
+import com.xebia.talentacquisition.mapper.ResourceMapper;
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import com.xebia.talentacquisition.repository.SavedSearchMatchRepository;
+import com.xebia.talentacquisition.repository.SavedSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SavedSearchService {
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchMatchRepository savedSearchMatchRepository;
+    private final ResourceRepository resourceRepository;
+    private final ResourceMapper resourceMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public ApiResponse<List<SavedSearchDTO>> getAllSavedSearches() {
+        List<SavedSearchDTO> dtos = savedSearchRepository.findAllWithSkills().stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+        return ApiResponse.<List<SavedSearchDTO>>builder()
+                .data(dtos)
+                .build();
+    }
+
+    public ApiResponse<SavedSearchDTO> createSavedSearch(SavedSearchDTO dto) {
+        SavedSearch savedSearch = SavedSearch.builder()
+                .name(dto.getName())
+                .createdBy(dto.getCreatedBy())
+                .skills(dto.getSkills() != null
+                        ? dto.getSkills().stream().filter(Strings::isNotBlank).distinct().collect(Collectors.toList())
+                        : new ArrayList<>())
+                .matchMode(dto.getMatchMode() != null ? dto.getMatchMode() : SavedSearch.MatchMode.ANY)
+                .location(Strings.isNotBlank(dto.getLocation()) ? dto.getLocation() : null)
+                .experience(dto.getExperience())
+                .status(dto.getStatus())
+                .build();
+        savedSearch = savedSearchRepository.save(savedSearch);
+        eventPublisher.publishEvent(SavedSearchChangedEvent.saved(savedSearch.getId()));
+        return ApiResponse.<SavedSearchDTO>builder()
+                .data(toDTO(savedSearch))
+                .build();
+    }
+
+    public ApiResponse<Map<String, String>> deleteSavedSearch(Long id) {
+        if (!savedSearchRepository.existsById(id)) {
+            throw new RuntimeException("Saved search not found with id: " + id);
+        }
+        savedSearchMatchRepository.deleteBySavedSearchId(id);
+        savedSearchRepository.deleteById(id);
+        eventPublisher.publishEvent(SavedSearchChangedEvent.deleted(id));
+        return ApiResponse.<Map<String, String>>builder()
+                .data(Map.of("message", "Saved search deleted successfully"))
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public PaginationResponse<SavedSearchMatchDTO> getMatches(Long id, Integer page, Integer limit) {
+        if (!savedSearchRepository.existsById(id)) {
+            throw new RuntimeException("Saved search not found with id: " + id);
+        }
+        int pageNumber = (page != null && page > 0) ? page - 1 : 0;
+        int pageSize = (limit != null && limit > 0) ? limit : 10;
+        Page<SavedSearchMatch> matchPage = savedSearchMatchRepository.findBySavedSearchId(
+                id, PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        List<Long> resourceIds = matchPage.getContent().stream().map(SavedSearchMatch::getResourceId).toList();
+        Map<Long, Resource> resources = resourceRepository.findAllById(resourceIds).stream()
+                .collect(Collectors.toMap(Resource::getId, Function.identity()));
+
+        List<SavedSearchMatchDTO> dtos = matchPage.getContent().stream()
+                .map(match -> SavedSearchMatchDTO.builder()
+                        .resourceId(match.getResourceId())
+                        .resource(resourceMapper.toDTO(resources.get(match.getResourceId())))
+                        .matchedAt(match.getCreatedAt())
+                        .build())
+                .collect(Collectors.toList());
+
+        PaginationResponse.PaginationInfo paginationInfo = PaginationResponse.PaginationInfo.builder()
+                .currentPage(matchPage.getNumber() + 1)
+                .totalPages(matchPage.getTotalPages())
+                .totalItems(matchPage.getTotalElements())
+                .itemsPerPage(matchPage.getSize())
+                .build();
+
+        return PaginationResponse.<SavedSearchMatchDTO>builder()
+                .data(dtos)
+                .pagination(paginationInfo)
+                .build();
+    }
+
+    private SavedSearchDTO toDTO(SavedSearch savedSearch) {
+        return SavedSearchDTO.builder()
+                .id(savedSearch.getId())
+                .name(savedSearch.getName())
+                .createdBy(savedSearch.getCreatedBy())
+                .skills(new ArrayList<>(savedSearch.getSkills()))
+                .matchMode(savedSearch.getMatchMode())
+                .location(savedSearch.getLocation())
+                .experience(savedSearch.getExperience())
+                .status(savedSearch.getStatus())
+                .createdAt(savedSearch.getCreatedAt())
+                .build();
+    }
+}
@@ -1,17 +1,19 @@
 package com.xebia.talentacquisition.service;
 
+import com.xebia.talentacquisition.coalescing.Coalesced;
 import com.xebia.talentacquisition.dto.*;
 import com.xebia.talentacquisition.entity.Resource;
-import com.xebia.talentacquisition.entity.Skill;
+import com.xebia.talentacquisition.history.StatusTransitionLog;
 import com.xebia.talentacquisition.repository.ResourceRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -19,33 +21,27 @@ import java.util.stream.Collectors;
 public class WeeklyATPService {
 
     private final ResourceRepository resourceRepository;
+    private final StatusTransitionLog statusTransitionLog;
 
+    @Coalesced("weekly-atp-summary")
     public ApiResponse<WeeklyATPSummaryDTO> getWeeklyATPSummary(String week, Integer year, Integer weekNumber) {
         LocalDate weekDate = week != null ? LocalDate.parse(week) : LocalDate.now();
         
-        List<Resource> allResources = resourceRepository.findAll();
-        List<Resource> atpResources = allResources.stream()
-                .filter(r -> r.getStatus() == Resource.ResourceStatus.ATP)
-                .toList();
+        List<ResourceRepository.ValueCount> locationCounts = resourceRepository.countAtpByLocation();
+        int totalATP = locationCounts.stream().mapToInt(count -> count.getCount().intValue()).sum();
+        Map<String, Integer> bySkill = toMap(resourceRepository.countAtpBySkill());
+        Map<String, Integer> byLocation = toMap(locationCounts);
         
-        Map<String, Integer> bySkill = new HashMap<>();
-        Map<String, Integer> byLocation = new HashMap<>();
-        
-        for (Resource resource : atpResources) {
-            for (Skill skill : resource.getSkills()) {
-                bySkill.put(skill.getName(), bySkill.getOrDefault(skill.getName(), 0) + 1);
-            }
-            if (resource.getLocation() != null) {
-                byLocation.put(resource.getLocation(), byLocation.getOrDefault(resource.getLocation(), 0) + 1);
-            }
-        }
+        // Resources that moved into each status during the Monday-to-Sunday week containing weekDate
+        LocalDate weekStart = weekDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        Map<String, Integer> transitions = statusTransitionLog.countTransitionsByStatus(weekStart, weekStart.plusWeeks(1));
         
         WeeklyATPSummaryDTO summary = WeeklyATPSummaryDTO.builder()
                 .week(weekDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
-                .totalATP(atpResources.size())
-                .newATP(0)
-                .deployed(0)
-                .softBlocked(0)
+                .totalATP(totalATP)
+                .newATP(transitions.getOrDefault(Resource.ResourceStatus.ATP.name(), 0))
+                .deployed(transitions.getOrDefault(Resource.ResourceStatus.DEPLOYED.name(), 0))
+                .softBlocked(transitions.getOrDefault(Resource.ResourceStatus.SOFT_BLOCKED.name(), 0))
                 .bySkill(bySkill)
                 .byLocation(byLocation)
                 .topRecommendations(new ArrayList<>()) // Can be populated with ResourceDTOs if needed
@@ -56,37 +52,27 @@ public class WeeklyATPService {
                 .build();
     }
 
+    @Coalesced("atp-by-skill")
     public ApiResponse<Map<String, Integer>> getATPBySkill(String week) {
-        List<Resource> atpResources = resourceRepository.findAll().stream()
-                .filter(r -> r.getStatus() == Resource.ResourceStatus.ATP)
-                .toList();
-        
-        Map<String, Integer> bySkill = new HashMap<>();
-        for (Resource resource : atpResources) {
-            for (Skill skill : resource.getSkills()) {
-                bySkill.put(skill.getName(), bySkill.getOrDefault(skill.getName(), 0) + 1);
-            }
-        }
-        
         return ApiResponse.<Map<String, Integer>>builder()
-                .data(bySkill)
+                .data(toMap(resourceRepository.countAtpBySkill()))
                 .build();
     }
 
+    @Coalesced("atp-by-location")
     public ApiResponse<Map<String, Integer>> getATPByLocation(String week) {
-        List<Resource> atpResources = resourceRepository.findAll().stream()
-                .filter(r -> r.getStatus() == Resource.ResourceStatus.ATP)
-                .toList();
-        
-        Map<String, Integer> byLocation = new HashMap<>();
-        for (Resource resource : atpResources) {
-            if (resource.getLocation() != null) {
-                byLocation.put(resource.getLocation(), byLocation.getOrDefault(resource.getLocation(), 0) + 1);
-            }
-        }
-        
         return ApiResponse.<Map<String, Integer>>builder()
-                .data(byLocation)
+                .data(toMap(resourceRepository.countAtpByLocation()))
                 .build();
     }
+
+    private static Map<String, Integer> toMap(List<ResourceRepository.ValueCount> counts) {
+        Map<String, Integer> map = new HashMap<>();
+        for (ResourceRepository.ValueCount count : counts) {
+            if (count.getValue() != null) {
+                map.put(count.getValue(), count.getCount().intValue());
+            }
+        }
+        return map;
+    }
 }
@@ -0,0 +1,88 @@
+-- Runs after Hibernate has created/updated the tables (spring.jpa.defer-datasource-initialization=true).
+-- Holds the database objects that cannot be expressed through JPA mappings. Every statement must be idempotent.
+
+-- Availability window of a resource: [availability_date, release_date], open-ended when a bound is missing.
+-- Resources with neither date only count as available while they are on the bench (ATP).
+CREATE OR REPLACE FUNCTION resource_availability(status varchar, available_from date, available_until date)
+    RETURNS daterange
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE
+AS 'SELECT CASE
+        WHEN available_from IS NULL AND available_until IS NULL AND status <> ''ATP'' THEN ''empty''::daterange
+        WHEN available_until < available_from THEN ''empty''::daterange
+        ELSE daterange(available_from, available_until, ''[]'')
+    END';
+
+-- GiST index so availability overlap (&&) filters stay logarithmic as bench history grows
+CREATE INDEX IF NOT EXISTS idx_resource_availability
+    ON resources USING gist (resource_availability(status, availability_date, release_date));
+
+-- Append-only log of resource status transitions, range-partitioned by month. Monthly partitions are
+-- created ahead of time by StatusTransitionPartitionMaintainer; the default partition only catches
+-- rows that arrive before their month exists.
+CREATE TABLE IF NOT EXISTS resource_status_transitions (
+    resource_id bigint NOT NULL,
+    from_status varchar(50),
+    to_status varchar(50) NOT NULL,
+    changed_at timestamp(6) NOT NULL DEFAULT now()
+) PARTITION BY RANGE (changed_at);
+
+CREATE TABLE IF NOT EXISTS resource_status_transitions_default
+    PARTITION OF resource_status_transitions DEFAULT;
+
+-- Rows arrive in time order, so a BRIN index stays tiny and still prunes week-sized scans
+CREATE INDEX IF NOT EXISTS idx_status_transitions_changed_at
+    ON resource_status_transitions USING brin (changed_at);
+
+-- Position of each skill in its resource's list (@OrderColumn on Resource.skills). Rows written before the
+-- column existed are numbered per resource in name order.
+ALTER TABLE resource_skills ADD COLUMN IF NOT EXISTS skill_order integer;
+
+UPDATE resource_skills s
+SET skill_order = numbered.position
+FROM (SELECT ctid AS row_id,
+             row_number() OVER (PARTITION BY resource_id ORDER BY skill_name, ctid) - 1 AS position
+      FROM resource_skills
+      WHERE resource_id IN (SELECT resource_id FROM resource_skills WHERE skill_order IS NULL)) numbered
+WHERE s.ctid = numbered.row_id;
+
+ALTER TABLE resource_skills ALTER COLUMN skill_order SET NOT NULL;
+
+-- Row updates and deletes address a skill by (resource_id, skill_order)
+CREATE UNIQUE INDEX IF NOT EXISTS idx_resource_skills_position ON resource_skills (resource_id, skill_order);
+
+-- Partial index over the live bench (ATP and SOFT_BLOCKED), a small slice of a table dominated by DEPLOYED rows.
+-- Queries that filter on a literal bench status scan only this slice; status updates and deletes move rows out.
+DROP INDEX IF EXISTS idx_resource_bench;
+CREATE INDEX IF NOT EXISTS idx_resource_bench_live
+    ON resources (status, location, id) WHERE status IN ('ATP', 'SOFT_BLOCKED') AND deleted_at IS NULL;
+
+-- Deleted resources are moved here with their skills and soft blocks by ResourceArchiver, keeping the live
+-- tables small. Columns follow the live tables; ResourceArchiver lists them explicitly.
+CREATE TABLE IF NOT EXISTS resources_archive (LIKE resources INCLUDING DEFAULTS);
+ALTER TABLE resources_archive ADD COLUMN IF NOT EXISTS archived_at timestamp(6) NOT NULL DEFAULT now();
+CREATE UNIQUE INDEX IF NOT EXISTS idx_resources_archive_id ON resources_archive (id);
+CREATE INDEX IF NOT EXISTS idx_resources_archive_employee_id ON resources_archive (employee_id);
+
+CREATE TABLE IF NOT EXISTS resource_skills_archive (LIKE resource_skills INCLUDING DEFAULTS);
+CREATE INDEX IF NOT EXISTS idx_resource_skills_archive_resource ON resource_skills_archive (resource_id);
+
+CREATE TABLE IF NOT EXISTS resource_soft_blocked_accounts_archive (LIKE resource_soft_blocked_accounts INCLUDING DEFAULTS);
+CREATE INDEX IF NOT EXISTS idx_soft_blocks_archive_resource ON resource_soft_blocked_accounts_archive (resource_id);
+
+-- Employee IDs and emails are unique among live resources only, so a deleted resource does not block a re-hire
+-- while it waits for archival. Drops the table-wide unique constraints of earlier mappings first.
+DO 'DECLARE c record;
+BEGIN
+    FOR c IN SELECT con.conname FROM pg_constraint con
+             JOIN pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = con.conkey[1]
+             WHERE con.conrelid = ''resources''::regclass AND con.contype = ''u''
+               AND cardinality(con.conkey) = 1 AND a.attname IN (''employee_id'', ''email'')
+    LOOP
+        EXECUTE format(''ALTER TABLE resources DROP CONSTRAINT %I'', c.conname);
+    END LOOP;
+END';
+CREATE UNIQUE INDEX IF NOT EXISTS idx_resource_live_employee_id ON resources (employee_id) WHERE deleted_at IS NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS idx_resource_live_email ON resources (email) WHERE deleted_at IS NULL;
+
+-- Finds deleted rows due for archival without scanning the live ones
+CREATE INDEX IF NOT EXISTS idx_resource_deleted_at ON resources (deleted_at) WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,142 @@
+package com.xebia.talentacquisition;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A build of the application started as a separate process on a free port, used by the tagged
+ * startup and native comparison tests.
+ */
+class LaunchedApplication implements AutoCloseable {
+
+    private static final Pattern STARTED = Pattern.compile("Started \\w+ in ([\\d.]+) seconds \\(process running for ([\\d.]+)\\)");
+    private static final Pattern VM_RSS = Pattern.compile("VmRSS:\\s+(\\d+) kB");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private final String name;
+    private final int port;
+    private final Path log;
+    private final Process process;
+    private final long healthyMillis;
+
+    private LaunchedApplication(String name, int port, Path log, Process process, long healthyMillis) {
+        this.name = name;
+        this.port = port;
+        this.log = log;
+        this.process = process;
+        this.healthyMillis = healthyMillis;
+    }
+
+    static LaunchedApplication start(String name, List<String> command) throws Exception {
+        int port = freePort();
+        Path log = Files.createTempFile("launched-" + name.replaceAll("\\W", "-"), ".log");
+        List<String> fullCommand = new ArrayList<>(command);
+        fullCommand.add("--server.port=" + port);
+        fullCommand.add("--spring.jpa.show-sql=false");
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(fullCommand)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long healthyMillis = awaitHealthy(process, port, start, log);
+            return new LaunchedApplication(name, port, log, process, healthyMillis);
+        } catch (Exception | AssertionError e) {
+            process.destroyForcibly();
+            throw e;
+        }
+    }
+
+    static String javaExecutable() {
+        return ProcessHandle.current().info().command().orElse("java");
+    }
+
+    String name() {
+        return name;
+    }
+
+    long healthyMillis() {
+        return healthyMillis;
+    }
+
+    HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return get(port, path);
+    }
+
+    HttpResponse<String> postJson(String path, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    // Spring Boot's own "Started ... in" line: {started seconds, process running seconds}
+    double[] reportedStartup() throws IOException {
+        Matcher started = STARTED.matcher(Files.readString(log));
+        if (!started.find()) {
+            throw new AssertionError("No startup line in " + log);
+        }
+        return new double[]{Double.parseDouble(started.group(1)), Double.parseDouble(started.group(2))};
+    }
+
+    long residentSetKilobytes() throws IOException {
+        Matcher rss = VM_RSS.matcher(Files.readString(Path.of("/proc", String.valueOf(process.pid()), "status")));
+        return rss.find() ? Long.parseLong(rss.group(1)) : -1;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        process.waitFor();
+    }
+
+    private static long awaitHealthy(Process process, int port, long start, Path log) throws Exception {
+        long deadline = start + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new AssertionError("Application exited, see " + log);
+            }
+            try {
+                if (get(port, "/actuator/health").statusCode() == 200) {
+                    return Duration.ofNanos(System.nanoTime() - start).toMillis();
+                }
+            } catch (IOException notListeningYet) {
+                // keep polling
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Not healthy within " + STARTUP_TIMEOUT + ", see " + log);
+    }
+
+    private static HttpResponse<String> get(int port, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        return CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
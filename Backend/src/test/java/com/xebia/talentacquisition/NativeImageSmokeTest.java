@@ -0,0 +1,84 @@
+package com.xebia.talentacquisition;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the native binary and the JVM boot jar against the configured Postgres, checks that the main
+ * endpoints answer the same way, and reports startup time, memory and throughput. Run with
+ * ./gradlew nativeSmokeTest (requires a GraalVM JDK).
+ */
+@Tag("native")
+class NativeImageSmokeTest {
+
+    private static final List<String> SMOKE_REQUESTS = List.of(
+            "/api/v1/resources?page=1&limit=10",
+            "/api/v1/resources/locations",
+            "/api/v1/resources/skills",
+            "/api/v1/resources/stats",
+            "/api/v1/accounts",
+            "/api/v1/weekly-atp/summary",
+            "/api/v1/weekly-atp/forecast?weeks=8"
+    );
+    // Native queries in ResourceRepository, with projections and array parameters
+    private static final List<String[]> SMOKE_POSTS = List.of(
+            new String[]{"/api/v1/resources/search-by-skills", "{\"skills\":[\"java\",\"react\"]}"},
+            new String[]{"/api/v1/resources/search-by-primary-secondary-skills",
+                    "{\"primarySkills\":[\"java\"],\"secondarySkills\":[\"docker\"]}"},
+            new String[]{"/api/v1/resources/batch-get", "{\"employeeIds\":[\"EMP001\",\"EMP002\"]}"}
+    );
+    private static final String THROUGHPUT_REQUEST = "/api/v1/resources?page=1&limit=20";
+    private static final Duration THROUGHPUT_WINDOW = Duration.ofSeconds(10);
+
+    @Test
+    void nativeBinaryServesTheSameEndpointsAsTheJvmBuild() throws Exception {
+        String nativeBinary = System.getProperty("native.binary");
+        String bootJar = System.getProperty("startup.bootJar");
+        assumeTrue(nativeBinary != null && Files.isExecutable(Path.of(nativeBinary)) && bootJar != null,
+                "run through ./gradlew nativeSmokeTest");
+
+        Measurement jvm = measure("jvm", List.of(LaunchedApplication.javaExecutable(), "-Dspring.aot.enabled=true", "-jar", bootJar,
+                "--spring.profiles.active=faststart"));
+        Measurement nativeImage = measure("native", List.of(nativeBinary, "--spring.profiles.active=faststart"));
+
+        System.out.printf("%-7s %10s %12s %12s %10s%n", "build", "healthy", "idle RSS", "loaded RSS", "req/s");
+        for (Measurement m : List.of(jvm, nativeImage)) {
+            System.out.printf("%-7s %8dms %10dMB %10dMB %10.0f%n",
+                    m.name(), m.healthyMillis(), m.idleRssKb() / 1024, m.loadedRssKb() / 1024, m.requestsPerSecond());
+        }
+        assertThat(nativeImage.healthyMillis()).isLessThan(jvm.healthyMillis());
+    }
+
+    private Measurement measure(String name, List<String> command) throws Exception {
+        try (LaunchedApplication app = LaunchedApplication.start(name, command)) {
+            long idleRss = app.residentSetKilobytes();
+            for (String path : SMOKE_REQUESTS) {
+                assertThat(app.get(path).statusCode()).as("%s %s", name, path).isEqualTo(200);
+            }
+            for (String[] post : SMOKE_POSTS) {
+                assertThat(app.postJson(post[0], post[1]).statusCode()).as("%s %s", name, post[0]).isEqualTo(200);
+            }
+
+            long requests = 0;
+            long deadline = System.nanoTime() + THROUGHPUT_WINDOW.toNanos();
+            while (System.nanoTime() < deadline) {
+                assertThat(app.get(THROUGHPUT_REQUEST).statusCode()).isEqualTo(200);
+                requests++;
+            }
+            return new Measurement(name, app.healthyMillis(), idleRss, app.residentSetKilobytes(),
+                    requests / (double) THROUGHPUT_WINDOW.toSeconds());
+        }
+    }
+
+    private record Measurement(String name, long healthyMillis, long idleRssKb, long loadedRssKb,
+                               double requestsPerSecond) {
+    }
+}
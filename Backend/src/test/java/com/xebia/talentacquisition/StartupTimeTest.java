@@ -0,0 +1,57 @@
+package com.xebia.talentacquisition;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Starts the plain boot jar and the fast startup build (AOT + CDS + faststart profile) against the
+ * configured Postgres and reports time to healthy and first-request latency. Run with ./gradlew startupTest.
+ */
+@Tag("startup")
+class StartupTimeTest {
+
+    private static final String FIRST_REQUEST = "/api/v1/resources?page=1&limit=10";
+
+    @Test
+    void fastStartupBuildStartsFasterThanPlainJar() throws Exception {
+        String bootJar = System.getProperty("startup.bootJar");
+        String cdsJar = System.getProperty("startup.cdsJar");
+        String cdsArchive = System.getProperty("startup.cdsArchive");
+        assumeTrue(bootJar != null && cdsJar != null && cdsArchive != null, "run through ./gradlew startupTest");
+
+        Measurement plain = measure("jvm", List.of(LaunchedApplication.javaExecutable(), "-jar", bootJar));
+        Measurement fast = measure("aot+cds", List.of(LaunchedApplication.javaExecutable(),
+                "-XX:SharedArchiveFile=" + cdsArchive, "-Dspring.aot.enabled=true",
+                "-jar", cdsJar, "--spring.profiles.active=faststart"));
+
+        System.out.printf("%-8s %10s %10s %12s %14s%n", "build", "started", "process", "healthy", "first request");
+        for (Measurement m : List.of(plain, fast)) {
+            System.out.printf("%-8s %9.2fs %9.2fs %10dms %12dms%n",
+                    m.name(), m.startedSeconds(), m.processSeconds(), m.healthyMillis(), m.firstRequestMillis());
+        }
+        assertThat(fast.healthyMillis()).isLessThan(plain.healthyMillis());
+    }
+
+    private Measurement measure(String name, List<String> command) throws Exception {
+        try (LaunchedApplication app = LaunchedApplication.start(name, command)) {
+            long requestStart = System.nanoTime();
+            HttpResponse<String> response = app.get(FIRST_REQUEST);
+            long firstRequestMillis = Duration.ofNanos(System.nanoTime() - requestStart).toMillis();
+            assertThat(response.statusCode()).isEqualTo(200);
+
+            double[] startup = app.reportedStartup();
+            return new Measurement(name, startup[0], startup[1], app.healthyMillis(), firstRequestMillis);
+        }
+    }
+
+    private record Measurement(String name, double startedSeconds, double processSeconds,
+                               long healthyMillis, long firstRequestMillis) {
+    }
+}
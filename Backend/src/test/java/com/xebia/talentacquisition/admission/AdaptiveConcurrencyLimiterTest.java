@@ -0,0 +1,101 @@
+package com.xebia.talentacquisition.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void growsByOneOverLimitPerFastSuccessUpToMax() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 1, 5, 0, 0);
+
+        for (int i = 0; i < 4; i++) {
+            limiter.release(limiter.tryAcquire(), true);
+        }
+        assertThat(limiter.getLimit()).isCloseTo(4.92, within(0.01));
+
+        for (int i = 0; i < 20; i++) {
+            limiter.release(limiter.tryAcquire(), true);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(5.0);
+        assertThat(limiter.getAccepted()).isEqualTo(24);
+    }
+
+    @Test
+    void backsOffOnceForRequestsInFlightDuringTheSameSpike() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 2, 32, 0, 0);
+        List<AdaptiveConcurrencyLimiter.Permit> spike = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            spike.add(limiter.tryAcquire());
+        }
+
+        spike.forEach(permit -> limiter.release(permit, false));
+        assertThat(limiter.getLimit()).isCloseTo(9.0, within(0.001));
+
+        // Acquired after the cut, so it starts a new window
+        limiter.release(limiter.tryAcquire(), false);
+        assertThat(limiter.getLimit()).isCloseTo(8.1, within(0.001));
+
+        for (int i = 0; i < 40; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+            limiter.release(permit, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(2.0);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void rejectsRightAwayWhenTheQueueIsFull() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 1, 0, 1_000);
+
+        assertThat(limiter.tryAcquire()).isNotNull();
+        long start = System.nanoTime();
+        assertThat(limiter.tryAcquire()).isNull();
+
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(limiter.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void queuedCallersGetAReleasedPermitOrTimeOut() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 1, 1, 100);
+        AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire();
+
+        long start = System.nanoTime();
+        assertThat(limiter.tryAcquire()).isNull();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(limiter.getQueued()).isZero();
+
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.tryAcquire();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (limiter.getQueued() == 0) {
+            Thread.onSpinWait();
+        }
+        limiter.release(first, true);
+        assertThat(waiting.get(1, TimeUnit.SECONDS)).isNotNull();
+        assertThat(limiter.getRejected()).isEqualTo(1);
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int initial, int min, int max, int maxQueue, long maxWaitMillis) {
+        AdmissionControlProperties.Limit settings = new AdmissionControlProperties.Limit();
+        settings.setInitialLimit(initial);
+        settings.setMinLimit(min);
+        settings.setMaxLimit(max);
+        settings.setMaxQueue(maxQueue);
+        settings.setMaxWaitMillis(maxWaitMillis);
+        settings.setLatencyTargetMillis(10_000);
+        return new AdaptiveConcurrencyLimiter("test", settings);
+    }
+}
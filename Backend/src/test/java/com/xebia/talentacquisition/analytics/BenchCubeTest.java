@@ -0,0 +1,107 @@
+package com.xebia.talentacquisition.analytics;
+
+import com.xebia.talentacquisition.dto.PivotDTO;
+import com.xebia.talentacquisition.event.ResourceChangedEvent;
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BenchCubeTest {
+
+    private final ResourceRepository resourceRepository = mock(ResourceRepository.class);
+    private final BenchCube cube = new BenchCube(resourceRepository);
+
+    @BeforeEach
+    void loadCube() {
+        when(resourceRepository.streamCubeSources()).thenReturn(Stream.of(
+                source(1L, "ATP", "Pune", 4, LocalDate.of(2024, 3, 4), "Java", "Spring Boot"),
+                source(2L, "ATP", "Pune", 12, LocalDate.of(2024, 3, 20), "Java"),
+                source(3L, "ATP", "Gurgaon", 1, null, "React"),
+                source(4L, "SOFT_BLOCKED", null, null, LocalDate.of(2024, 4, 1), "Java")));
+        cube.loadCube();
+    }
+
+    @Test
+    void countsEveryCombinationOfTwoDimensions() {
+        PivotDTO pivot = cube.pivot(List.of(Dimension.STATUS, Dimension.LOCATION), Map.of(), 10);
+
+        assertThat(pivot.getDimensions()).containsExactly("status", "location");
+        assertThat(pivot.getTotal()).isEqualTo(4);
+        assertThat(pivot.getCells()).extracting(PivotDTO.Cell::getValues, PivotDTO.Cell::getCount)
+                .containsExactly(
+                        tuple(List.of("ATP", "Pune"), 2),
+                        tuple(List.of("ATP", "Gurgaon"), 1),
+                        tuple(Arrays.asList("SOFT_BLOCKED", null), 1));
+    }
+
+    @Test
+    void groupsBySkillAndDerivedDimensionsWithinFilters() {
+        PivotDTO bySkill = cube.pivot(List.of(Dimension.SKILL, Dimension.EXPERIENCE_BAND),
+                Map.of(Dimension.STATUS, "atp"), 10);
+        assertThat(bySkill.getTotal()).isEqualTo(4);
+        assertThat(bySkill.getCells()).extracting(PivotDTO.Cell::getValues, PivotDTO.Cell::getCount)
+                .containsExactly(
+                        tuple(List.of("Java", "11-15"), 1),
+                        tuple(List.of("Java", "3-5"), 1),
+                        tuple(List.of("React", "0-2"), 1),
+                        tuple(List.of("Spring Boot", "3-5"), 1));
+
+        PivotDTO byMonth = cube.pivot(List.of(Dimension.AVAILABILITY_MONTH), Map.of(Dimension.SKILL, "Java"), 1);
+        assertThat(byMonth.getTotal()).isEqualTo(3);
+        assertThat(byMonth.getCells()).extracting(PivotDTO.Cell::getValues, PivotDTO.Cell::getCount)
+                .containsExactly(tuple(List.of("2024-03"), 2));
+
+        assertThat(cube.pivot(List.of(Dimension.STATUS), Map.of(Dimension.SKILL, "Cobol"), 10).getTotal()).isZero();
+    }
+
+    @Test
+    void changesReplaceRowsAndDeletesFreeThem() {
+        when(resourceRepository.findCubeSources(any())).thenReturn(List.of(
+                source(2L, "SOFT_BLOCKED", "Pune", 12, null, "React")));
+        cube.onResourceChanged(ResourceChangedEvent.updated(List.of(2L)));
+
+        assertThat(cube.pivot(List.of(Dimension.SKILL), Map.of(Dimension.STATUS, "ATP"), 10).getCells())
+                .extracting(PivotDTO.Cell::getValues, PivotDTO.Cell::getCount)
+                .containsExactly(
+                        tuple(List.of("Java"), 1),
+                        tuple(List.of("React"), 1),
+                        tuple(List.of("Spring Boot"), 1));
+
+        cube.onResourceChanged(ResourceChangedEvent.deleted(List.of(1L, 2L)));
+        assertThat(cube.size()).isEqualTo(2);
+        assertThat(cube.pivot(List.of(Dimension.LOCATION), Map.of(), 10).getCells())
+                .extracting(PivotDTO.Cell::getValues)
+                .containsExactlyInAnyOrder(List.of("Gurgaon"), Arrays.asList((String) null));
+
+        when(resourceRepository.findCubeSources(any())).thenReturn(List.of(
+                source(5L, "ATP", "Noida", 7, null, "Go")));
+        cube.onResourceChanged(ResourceChangedEvent.updated(List.of(5L)));
+        assertThat(cube.pivot(List.of(Dimension.SKILL), Map.of(Dimension.LOCATION, "Noida"), 10).getCells())
+                .extracting(PivotDTO.Cell::getValues).containsExactly(List.of("Go"));
+    }
+
+    private static ResourceRepository.CubeSource source(Long id, String status, String location, Integer experience,
+                                                        LocalDate availabilityDate, String... skills) {
+        return new ResourceRepository.CubeSource() {
+            public Long getId() { return id; }
+            public String getStatus() { return status; }
+            public String getLocation() { return location; }
+            public String getDesignation() { return "Engineer"; }
+            public Integer getTotalExperience() { return experience; }
+            public LocalDate getAvailabilityDate() { return availabilityDate; }
+            public String getSkills() { return String.join("\u001f", skills); }
+        };
+    }
+}
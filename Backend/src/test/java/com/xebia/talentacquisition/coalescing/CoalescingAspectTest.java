@@ -0,0 +1,82 @@
+package com.xebia.talentacquisition.coalescing;
+
+import com.xebia.talentacquisition.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CoalescingProperties properties = new CoalescingProperties();
+    private final SlowService target = new SlowService();
+    private final SlowService service = proxy(target);
+
+    @Test
+    void concurrentCallsWithEqualArgumentsShareOneInvocation() throws Exception {
+        CompletableFuture<Integer> leader = CompletableFuture.supplyAsync(() -> service.compute("java"));
+        assertThat(target.started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Integer> follower = CompletableFuture.supplyAsync(() -> service.compute("java"));
+        awaitFollower();
+
+        target.release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(target.invocations).hasValue(1);
+
+        // A call after the flight completed runs again
+        assertThat(service.compute("java")).isEqualTo(2);
+    }
+
+    @Test
+    void followersGiveUpAfterTheTimeout() throws Exception {
+        properties.getDefaults().setTimeoutMillis(50);
+        CompletableFuture<Integer> leader = CompletableFuture.supplyAsync(() -> service.compute("java"));
+        assertThat(target.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> service.compute("java")).isInstanceOf(ServiceOverloadedException.class);
+        assertThat(meterRegistry.counter("coalescing.timeouts", "call", "compute").count()).isEqualTo(1);
+        target.release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    private void awaitFollower() throws InterruptedException {
+        for (int i = 0; i < 500 && meterRegistry.counter("coalescing.calls", "call", "compute", "role", "follower").count() == 0; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private SlowService proxy(SlowService slowService) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(slowService);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new CoalescingAspect(properties, meterRegistry));
+        return factory.getProxy();
+    }
+
+    static class SlowService {
+
+        final AtomicInteger invocations = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Coalesced("compute")
+        public Integer compute(String skill) {
+            int invocation = invocations.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return invocation;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.xebia.talentacquisition.config;
+
+import com.xebia.talentacquisition.controller.ResourceController;
+import com.xebia.talentacquisition.history.ResourceArchiver;
+import com.xebia.talentacquisition.service.ResourceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FastStartConfigTest {
+
+    @Test
+    void scheduledBeansAndControllersStayEager() {
+        LazyInitializationExcludeFilter scheduled = FastStartConfig.scheduledTaskLazyInitializationExcludeFilter();
+        LazyInitializationExcludeFilter controllers = FastStartConfig.requestPathLazyInitializationExcludeFilter();
+
+        assertThat(scheduled.isExcluded("resourceArchiver", null, ResourceArchiver.class)).isTrue();
+        assertThat(scheduled.isExcluded("resourceService", null, ResourceService.class)).isFalse();
+        assertThat(controllers.isExcluded("resourceController", null, ResourceController.class)).isTrue();
+        assertThat(controllers.isExcluded("resourceArchiver", null, ResourceArchiver.class)).isFalse();
+    }
+}
@@ -0,0 +1,76 @@
+package com.xebia.talentacquisition.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.xebia.talentacquisition.dto.PaginationResponse;
+import com.xebia.talentacquisition.dto.ResourceDTO;
+import com.xebia.talentacquisition.mapper.CachedResourceJson;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static com.xebia.talentacquisition.config.PaginationSerializationTest.*;
+
+/**
+ * Reports size and encode/decode cost of the response paths that {@link PaginationSerializationTest} checks for
+ * equality. Run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+class PaginationSerializationBenchmarkTest {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    @Test
+    void cachedRowsCost() throws Exception {
+        PaginationResponse<ResourceDTO> page = samplePage();
+        ObjectMapper mapper = tunedMapper();
+        PaginationResponse<CachedResourceJson> cached = cache(mapper, page);
+
+        System.out.printf("%d-row page: serialized %.1f us, cached rows %.1f us%n", ROWS,
+                measure(() -> mapper.writeValueAsBytes(page)), measure(() -> mapper.writeValueAsBytes(cached)));
+    }
+
+    @Test
+    void binaryFormatsSizeAndCost() throws Exception {
+        PaginationResponse<ResourceDTO> page = samplePage();
+        ObjectMapper json = tunedMapper();
+        for (ObjectMapper mapper : List.of(json, json.copyWith(new CBORFactory()), json.copyWith(JacksonConfig.smileFactory()))) {
+            ObjectWriter writer = mapper.writerFor(PAGE_TYPE);
+            ObjectReader reader = mapper.readerFor(PAGE_TYPE);
+            byte[] body = writer.writeValueAsBytes(page);
+            System.out.printf("%d-row page: %s %d bytes (%d gzip), encode %.1f us, decode %.1f us%n", ROWS,
+                    mapper.getFactory().getFormatName(), body.length, gzip(body).length,
+                    measure(() -> writer.writeValueAsBytes(page)), measure(() -> reader.readValue(body)));
+        }
+    }
+
+    private double measure(ThrowingRunnable task) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    private byte[] gzip(byte[] body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    @FunctionalInterface
+    interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
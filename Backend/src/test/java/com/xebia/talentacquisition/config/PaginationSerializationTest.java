@@ -0,0 +1,117 @@
+package com.xebia.talentacquisition.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.xebia.talentacquisition.dto.PaginationResponse;
+import com.xebia.talentacquisition.dto.ResourceDTO;
+import com.xebia.talentacquisition.dto.SkillDTO;
+import com.xebia.talentacquisition.dto.SoftBlockDTO;
+import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.entity.Skill;
+import com.xebia.talentacquisition.mapper.CachedResourceJson;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaginationSerializationTest {
+
+    static final int ROWS = 100;
+    static final TypeReference<PaginationResponse<ResourceDTO>> PAGE_TYPE = new TypeReference<>() {};
+
+    @Test
+    void tunedMapperMatchesDefaultOutput() throws Exception {
+        PaginationResponse<ResourceDTO> page = samplePage();
+
+        byte[] baseline = Jackson2ObjectMapperBuilder.json().build().writeValueAsBytes(page);
+        assertThat(tunedMapper().writeValueAsBytes(page)).isEqualTo(baseline);
+    }
+
+    @Test
+    void cachedRowsMatchMappedOutput() throws Exception {
+        PaginationResponse<ResourceDTO> page = samplePage();
+        ObjectMapper mapper = tunedMapper();
+        PaginationResponse<CachedResourceJson> cached = cache(mapper, page);
+
+        assertThat(mapper.writeValueAsBytes(cached)).isEqualTo(mapper.writeValueAsBytes(page));
+        // Non-streaming targets re-read the cached JSON as tokens (numbers come back with the narrowest type)
+        JsonNode tree = mapper.valueToTree(cached);
+        assertThat(mapper.writeValueAsBytes(tree)).isEqualTo(mapper.writeValueAsBytes(page));
+    }
+
+    @Test
+    void binaryFormatsRoundTripToTheJsonDocument() throws Exception {
+        PaginationResponse<ResourceDTO> page = samplePage();
+        ObjectMapper json = tunedMapper();
+        byte[] jsonBody = json.writerFor(PAGE_TYPE).writeValueAsBytes(page);
+        JsonNode expected = json.readTree(jsonBody);
+        PaginationResponse<CachedResourceJson> cached = cache(json, page);
+
+        for (ObjectMapper binary : List.of(json.copyWith(new CBORFactory()), json.copyWith(JacksonConfig.smileFactory()))) {
+            ObjectWriter writer = binary.writerFor(PAGE_TYPE);
+            byte[] body = writer.writeValueAsBytes(page);
+            assertThat(binary.readTree(body)).isEqualTo(expected);
+            // Cached JSON is transcoded into the binary format
+            assertThat(binary.readTree(binary.writeValueAsBytes(cached))).isEqualTo(expected);
+            assertThat(body.length).isLessThan(jsonBody.length);
+        }
+    }
+
+    static ObjectMapper tunedMapper() {
+        return Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+    }
+
+    static PaginationResponse<CachedResourceJson> cache(ObjectMapper mapper, PaginationResponse<ResourceDTO> page)
+            throws Exception {
+        ObjectWriter rowWriter = mapper.writerFor(ResourceDTO.class);
+        List<CachedResourceJson> rows = new ArrayList<>();
+        for (ResourceDTO row : page.getData()) {
+            rows.add(new CachedResourceJson(rowWriter.writeValueAsString(row)));
+        }
+        return PaginationResponse.<CachedResourceJson>builder()
+                .data(rows)
+                .pagination(page.getPagination())
+                .build();
+    }
+
+    static PaginationResponse<ResourceDTO> samplePage() {
+        List<ResourceDTO> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(ResourceDTO.builder()
+                    .employeeId("EMP" + (1000 + i))
+                    .name("Resource " + i)
+                    .email("resource" + i + "@xebia.com")
+                    .designation("Senior Software Engineer")
+                    .location(i % 2 == 0 ? "Bangalore" : "Pune")
+                    .status(Resource.ResourceStatus.ATP)
+                    .availabilityDate(LocalDate.of(2024, 3, 1).plusDays(i))
+                    .totalExperience(3 + i % 10)
+                    .skills(List.of(
+                            SkillDTO.builder().name("Java").level(Skill.SkillLevel.ADVANCED)
+                                    .type(Skill.SkillType.PRIMARY).yearsOfExperience(5).build(),
+                            SkillDTO.builder().name("Spring Boot").level(Skill.SkillLevel.INTERMEDIATE)
+                                    .type(Skill.SkillType.SECONDARY).yearsOfExperience(3).build()))
+                    .softBlocks(List.of(SoftBlockDTO.builder().accountId(1L).accountName("Acme")
+                            .blockedUntil(LocalDate.of(2024, 6, 30)).build()))
+                    .ctc(1200000.0)
+                    .ctcCurrency("INR")
+                    .createdAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                    .updatedAt(LocalDateTime.of(2024, 1, 2, 10, 0))
+                    .build());
+        }
+        return PaginationResponse.<ResourceDTO>builder()
+                .data(rows)
+                .pagination(PaginationResponse.PaginationInfo.builder()
+                        .currentPage(1).totalPages(10).totalItems(1000).itemsPerPage(ROWS).build())
+                .build();
+    }
+}
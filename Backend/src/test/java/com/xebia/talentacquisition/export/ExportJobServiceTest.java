@@ -0,0 +1,133 @@
+package com.xebia.talentacquisition.export;
+
+import com.xebia.talentacquisition.dto.ExportJobDTO;
+import com.xebia.talentacquisition.dto.ResourceDTO;
+import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.exception.ServiceOverloadedException;
+import com.xebia.talentacquisition.mapper.ResourceMapper;
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import com.xebia.talentacquisition.search.SkillResolver;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ExportJobServiceTest {
+
+    private final ResourceRepository resourceRepository = mock(ResourceRepository.class);
+    private final ResourceMapper resourceMapper = mock(ResourceMapper.class);
+    private final ExportJobService service = new ExportJobService(resourceRepository, resourceMapper,
+            new SkillResolver(mock(ResourceRepository.class)), mock(PlatformTransactionManager.class));
+
+    @TempDir
+    Path spoolDir;
+
+    @AfterEach
+    void stop() {
+        service.stop();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void walksMatchingIdsInKeysetBatchesIntoASpreadsheet() throws Exception {
+        start(1, 8, 2);
+        when(resourceRepository.findWithFilters(eq("ATP"), eq("Pune"), isNull(), isNull(), isNull(), isNull(), any()))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 1), 3));
+        when(resourceRepository.findIdsWithFilters(eq("ATP"), eq("Pune"), isNull(), isNull(), isNull(), isNull(), anyLong(), eq(2)))
+                .thenAnswer(invocation -> switch ((int) (long) invocation.getArgument(6)) {
+                    case 0 -> List.of(1L, 2L);
+                    case 2 -> List.of(3L);
+                    default -> List.of();
+                });
+        when(resourceRepository.findAllById(any())).thenAnswer(invocation -> ((Collection<Long>) invocation.getArgument(0))
+                .stream().map(id -> Resource.builder().id(id).build()).toList());
+        when(resourceMapper.toDTO(any())).thenAnswer(invocation -> ResourceDTO.builder()
+                .employeeId("EMP" + ((Resource) invocation.getArgument(0)).getId()).build());
+
+        ExportJobDTO job = awaitFinished(service.submit("XLSX", Resource.ResourceStatus.ATP, "Pune", null, null, null, null)
+                .getData().getJobId());
+
+        assertThat(job.getStatus()).isEqualTo(ExportJob.Status.COMPLETED);
+        assertThat(job.getRowsWritten()).isEqualTo(3);
+        assertThat(job.getTotalRows()).isEqualTo(3);
+        verify(resourceRepository).findIdsWithFilters(any(), any(), any(), any(), any(), any(), eq(0L), eq(2));
+        verify(resourceRepository).findIdsWithFilters(any(), any(), any(), any(), any(), any(), eq(2L), eq(2));
+        verify(resourceRepository).findIdsWithFilters(any(), any(), any(), any(), any(), any(), eq(3L), eq(2));
+
+        Path file = service.getCompletedJob(job.getJobId()).getFile();
+        try (InputStream in = Files.newInputStream(file); XSSFWorkbook workbook = new XSSFWorkbook(in)) {
+            // Header plus one row per resource
+            assertThat(workbook.getSheetAt(0).getPhysicalNumberOfRows()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void rejectsJobsBeyondTheQueueWithRetryAfter() throws Exception {
+        start(1, 1, 500);
+        CountDownLatch release = new CountDownLatch(1);
+        when(resourceRepository.findWithFilters(any(), any(), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new PageImpl<>(List.of());
+        });
+
+        String running = service.submit("xlsx", null, null, null, null, null, null).getData().getJobId();
+        String queued = service.submit("xlsx", null, null, null, null, null, null).getData().getJobId();
+        assertThatThrownBy(() -> service.submit("xlsx", null, null, null, null, null, null))
+                .isInstanceOf(ServiceOverloadedException.class);
+
+        release.countDown();
+        assertThat(awaitFinished(running).getStatus()).isEqualTo(ExportJob.Status.COMPLETED);
+        assertThat(awaitFinished(queued).getStatus()).isEqualTo(ExportJob.Status.COMPLETED);
+    }
+
+    @Test
+    void validatesFormatAndWindowBeforeQueueing() throws Exception {
+        start(1, 8, 500);
+
+        assertThatThrownBy(() -> service.submit("pdf", null, null, null, null, null, null))
+                .hasMessageContaining("Unsupported export job format");
+        assertThatThrownBy(() -> service.submit("xlsx", null, null, null, null,
+                LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 1)))
+                .hasMessageContaining("availableFrom must not be after availableTo");
+        verifyNoInteractions(resourceRepository);
+    }
+
+    private void start(int workers, int queueCapacity, int batchSize) throws Exception {
+        ReflectionTestUtils.setField(service, "spoolDirectory", spoolDir.toString());
+        ReflectionTestUtils.setField(service, "workers", workers);
+        ReflectionTestUtils.setField(service, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(service, "batchSize", batchSize);
+        ReflectionTestUtils.setField(service, "rowWindow", 100);
+        ReflectionTestUtils.setField(service, "retryAfterSeconds", 30);
+        service.start();
+    }
+
+    private ExportJobDTO awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        ExportJobDTO job = service.getJob(jobId).getData();
+        while (job.getStatus() == ExportJob.Status.QUEUED || job.getStatus() == ExportJob.Status.RUNNING) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+            job = service.getJob(jobId).getData();
+        }
+        return job;
+    }
+}
@@ -0,0 +1,129 @@
+package com.xebia.talentacquisition.history;
+
+import com.xebia.talentacquisition.dto.ResourceDTO;
+import com.xebia.talentacquisition.entity.Account;
+import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.entity.Skill;
+import com.xebia.talentacquisition.repository.AccountRepository;
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import com.xebia.talentacquisition.service.ResourceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Archival of soft-deleted resources and reuse of their employee IDs and emails. Runs against the configured
+ * Postgres with a batch size of 2 on rows deleted long before any real data; each test rolls back.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {"spring.jpa.show-sql=false", "archive.batch-size=2"})
+@Transactional
+class ResourceArchiverTest {
+
+    private static final LocalDateTime LONG_AGO = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Autowired
+    private ResourceArchiver resourceArchiver;
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void movesDeletedResourcesWithTheirSkillsAndBlocksInBatches() {
+        Account account = accountRepository.saveAndFlush(Account.builder().name("Archiver Test Account").build());
+        List<Long> old = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            old.add(save("ARCTEST" + i).getId());
+            resourceService.softBlockResource("ARCTEST" + i, account.getId(), LocalDate.of(2030, 1, 1));
+        }
+        Long recent = save("ARCTEST4").getId();
+        Long live = save("ARCTEST5").getId();
+        resourceRepository.softDeleteByIds(List.of(old.get(0), old.get(1), old.get(2), recent));
+        jdbcTemplate.update("UPDATE resources SET deleted_at = ? WHERE id IN (?, ?, ?)",
+                LONG_AGO, old.get(0), old.get(1), old.get(2));
+        jdbcTemplate.update("UPDATE resources SET deleted_at = ? WHERE id = ?", LONG_AGO.plusDays(2), recent);
+
+        assertThat(resourceArchiver.archiveDeletedBefore(LONG_AGO.plusDays(1))).isEqualTo(3);
+
+        assertThat(ids("SELECT id FROM resources WHERE employee_id LIKE 'ARCTEST%'")).containsExactlyInAnyOrder(recent, live);
+        assertThat(ids("SELECT id FROM resources_archive WHERE employee_id LIKE 'ARCTEST%'")).containsExactlyInAnyOrderElementsOf(old);
+        assertThat(count("resource_skills", old)).isZero();
+        assertThat(count("resource_skills_archive", old)).isEqualTo(6);
+        assertThat(count("resource_soft_blocked_accounts", old)).isZero();
+        assertThat(count("resource_soft_blocked_accounts_archive", old)).isEqualTo(3);
+        assertThat(count("resource_skills", List.of(live))).isEqualTo(2);
+
+        assertThat(resourceArchiver.archiveDeletedBefore(LONG_AGO.plusDays(1))).isZero();
+    }
+
+    @Test
+    void deletedResourceDoesNotHoldItsEmployeeIdOrEmail() {
+        Long deleted = save("ARCTEST1").getId();
+        resourceRepository.softDeleteByIds(List.of(deleted));
+
+        Resource rehired = resourceRepository.findByEmployeeId(
+                resourceService.createResource(dto("ARCTEST1")).getData().getEmployeeId()).orElseThrow();
+        assertThat(rehired.getId()).isNotEqualTo(deleted);
+        assertThatThrownBy(() -> resourceService.createResource(dto("ARCTEST1")))
+                .hasMessageContaining("employee ID already exists");
+
+        jdbcTemplate.update("UPDATE resources SET deleted_at = ? WHERE id = ?", LONG_AGO, deleted);
+        assertThat(resourceArchiver.archiveDeletedBefore(LONG_AGO.plusDays(1))).isEqualTo(1);
+        assertThat(resourceRepository.findByEmployeeId("ARCTEST1")).map(Resource::getId).contains(rehired.getId());
+    }
+
+    private List<Long> ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class);
+    }
+
+    private long count(String table, List<Long> resourceIds) {
+        return resourceIds.stream()
+                .mapToLong(id -> jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM " + table + " WHERE resource_id = ?", Long.class, id))
+                .sum();
+    }
+
+    private Resource save(String employeeId) {
+        return resourceRepository.saveAndFlush(Resource.builder()
+                .employeeId(employeeId)
+                .name("Archived " + employeeId)
+                .email(employeeId.toLowerCase() + "@example.com")
+                .location("Archiver Test")
+                .status(Resource.ResourceStatus.ATP)
+                .skills(new ArrayList<>(List.of(
+                        Skill.builder().name("Java").level(Skill.SkillLevel.ADVANCED)
+                                .type(Skill.SkillType.PRIMARY).yearsOfExperience(3).build(),
+                        Skill.builder().name("SQL").level(Skill.SkillLevel.ADVANCED)
+                                .type(Skill.SkillType.SECONDARY).yearsOfExperience(3).build())))
+                .build());
+    }
+
+    private static ResourceDTO dto(String employeeId) {
+        return ResourceDTO.builder()
+                .employeeId(employeeId)
+                .name("Rehired " + employeeId)
+                .email(employeeId.toLowerCase() + "@example.com")
+                .location("Archiver Test")
+                .status(Resource.ResourceStatus.ATP)
+                .build();
+    }
+}
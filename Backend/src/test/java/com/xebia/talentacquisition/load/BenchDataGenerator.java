@@ -0,0 +1,276 @@
+package com.xebia.talentacquisition.load;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Synthetic bench data for load tests. Resources get realistic status, location, experience and skill
+ * distributions (skills come in role families plus a long tail of secondary skills) and are loaded with
+ * COPY. Generated rows use the LOAD employee ID prefix and are replaced on every run, so the rest of the
+ * data is left alone.
+ *
+ * <p>Run with {@code ./gradlew generateBenchData -Pload.resources=50000}. The schema must already exist,
+ * i.e. the application has been started once against the database.
+ */
+public class BenchDataGenerator {
+
+    static final String EMPLOYEE_ID_PREFIX = "LOAD";
+    private static final int COPY_CHUNK = 5_000;
+
+    private static final String[] FIRST_NAMES = {"Aarav", "Vivaan", "Aditya", "Ishaan", "Arjun", "Sai", "Reyansh",
+            "Krishna", "Ananya", "Diya", "Saanvi", "Aadhya", "Kavya", "Meera", "Priya", "Neha", "Rohan", "Karan",
+            "Sneha", "Pooja", "Rahul", "Vikram", "Nikhil", "Tanvi", "Shreya", "Manish", "Deepak", "Lakshmi"};
+    private static final String[] LAST_NAMES = {"Sharma", "Verma", "Patel", "Reddy", "Iyer", "Nair", "Gupta", "Singh",
+            "Kumar", "Rao", "Menon", "Joshi", "Kulkarni", "Desai", "Chopra", "Mehta", "Bose", "Das", "Pillai"};
+
+    private static final Weighted<String> LOCATIONS = new Weighted<String>()
+            .add("Bangalore", 30).add("Pune", 22).add("Gurgaon", 15).add("Hyderabad", 12)
+            .add("Mumbai", 8).add("Delhi", 7).add("Chennai", 6);
+    private static final Weighted<String> STATUSES = new Weighted<String>()
+            .add("DEPLOYED", 55).add("ATP", 18).add("SOFT_BLOCKED", 7).add("TRAINEE", 6)
+            .add("NOTICE", 5).add("INTERVIEW_SCHEDULED", 5).add("LEAVE", 4);
+    private static final Weighted<String[]> FAMILIES = new Weighted<String[]>()
+            .add(new String[]{"Java Developer", "Java", "Spring Boot", "Microservices", "Hibernate", "Apache Kafka"}, 30)
+            .add(new String[]{"Frontend Developer", "React", "TypeScript", "JavaScript", "Redux", "Angular"}, 20)
+            .add(new String[]{"DevOps Engineer", "AWS", "Docker", "Kubernetes", "Terraform", "Jenkins"}, 15)
+            .add(new String[]{"Data Engineer", "Python", "Apache Spark", "SQL", "Airflow", "Snowflake"}, 12)
+            .add(new String[]{"Full Stack Developer", "Node.js", "React", "MongoDB", "Express.js", "TypeScript"}, 10)
+            .add(new String[]{".NET Developer", "C#", ".NET", "Azure", "SQL Server", "Entity Framework"}, 8)
+            .add(new String[]{"Mobile Developer", "Flutter", "Kotlin", "Swift", "Android", "Firebase"}, 5);
+    // Secondary skills follow a long tail: index i is drawn with weight 1 / (i + 1)
+    private static final String[] SECONDARY_SKILLS = {"Git", "Docker", "SQL", "REST API", "AWS", "Kubernetes", "Python",
+            "PostgreSQL", "Redis", "GraphQL", "Jenkins", "Linux", "MySQL", "Elasticsearch", "Terraform", "Azure",
+            "Google Cloud", "Go", "Scala", "RabbitMQ", "Machine Learning", "Rust", "C++", "Figma"};
+    private static final Weighted<String> SECONDARY = new Weighted<>();
+    static {
+        for (int i = 0; i < SECONDARY_SKILLS.length; i++) {
+            SECONDARY.add(SECONDARY_SKILLS[i], 1.0 / (i + 1));
+        }
+    }
+
+    private final Connection connection;
+    private final Random random;
+    private final LocalDate today = LocalDate.now();
+
+    public BenchDataGenerator(Connection connection, long seed) {
+        this.connection = connection;
+        this.random = new Random(seed);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Properties config = new Properties();
+        try (InputStream in = BenchDataGenerator.class.getResourceAsStream("/application.properties")) {
+            if (in != null) {
+                config.load(in);
+            }
+        }
+        config.putAll(System.getProperties());
+        int resources = Integer.parseInt(config.getProperty("load.resources", "50000"));
+        long seed = Long.parseLong(config.getProperty("load.seed", "42"));
+        boolean regenerate = Boolean.parseBoolean(config.getProperty("load.regenerate", "false"));
+
+        try (Connection connection = DriverManager.getConnection(config.getProperty("spring.datasource.url"),
+                config.getProperty("spring.datasource.username"), config.getProperty("spring.datasource.password"))) {
+            BenchDataGenerator generator = new BenchDataGenerator(connection, seed);
+            int existing = generator.countGenerated();
+            if (existing == resources && !regenerate) {
+                System.out.printf("%d generated resources already present, skipping (-Pload.regenerate=true to force)%n", existing);
+                return;
+            }
+            long start = System.nanoTime();
+            generator.generate(resources);
+            System.out.printf("Generated %d resources in %d ms%n", resources, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    public int countGenerated() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT COUNT(*) FROM resources WHERE employee_id LIKE '" + EMPLOYEE_ID_PREFIX + "%'")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    public void generate(int count) throws SQLException, IOException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            String generated = "SELECT id FROM resources WHERE employee_id LIKE '" + EMPLOYEE_ID_PREFIX + "%'";
+            statement.executeUpdate("DELETE FROM resource_soft_blocked_accounts WHERE resource_id IN (" + generated + ")");
+            statement.executeUpdate("DELETE FROM resource_skills WHERE resource_id IN (" + generated + ")");
+            statement.executeUpdate("DELETE FROM resources WHERE employee_id LIKE '" + EMPLOYEE_ID_PREFIX + "%'");
+
+            long firstResourceId = queryLong(statement, "SELECT COALESCE(MAX(id), 0) + 1 FROM resources");
+            long firstBlockId = queryLong(statement, "SELECT COALESCE(MAX(id), 0) + 1 FROM resource_soft_blocked_accounts");
+            List<Long> accountIds = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery("SELECT id FROM accounts")) {
+                while (rs.next()) {
+                    accountIds.add(rs.getLong(1));
+                }
+            }
+
+            CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+            long nextBlockId = firstBlockId;
+            for (int from = 0; from < count; from += COPY_CHUNK) {
+                StringBuilder resources = new StringBuilder();
+                StringBuilder skills = new StringBuilder();
+                StringBuilder blocks = new StringBuilder();
+                for (int i = from; i < Math.min(from + COPY_CHUNK, count); i++) {
+                    nextBlockId = appendResource(i, firstResourceId + i, nextBlockId, accountIds, resources, skills, blocks);
+                }
+                copy.copyIn("COPY resources (id, employee_id, name, email, designation, location, status, " +
+                        "availability_date, release_date, total_experience, ctc, ctc_currency, created_at, updated_at) " +
+                        "FROM STDIN (FORMAT csv)", new StringReader(resources.toString()));
+                copy.copyIn("COPY resource_skills (resource_id, skill_name, skill_level, skill_type, years_of_experience, skill_order) " +
+                        "FROM STDIN (FORMAT csv)", new StringReader(skills.toString()));
+                copy.copyIn("COPY resource_soft_blocked_accounts (id, resource_id, account_id, blocked_until, created_at, updated_at) " +
+                        "FROM STDIN (FORMAT csv)", new StringReader(blocks.toString()));
+            }
+
+            // Keep Hibernate's pooled sequences (increment 50) clear of the copied IDs
+            statement.execute("SELECT setval('resources_seq', GREATEST((SELECT MAX(id) FROM resources) + 100, nextval('resources_seq')))");
+            statement.execute("SELECT setval('resource_soft_blocked_accounts_seq', " +
+                    "GREATEST((SELECT COALESCE(MAX(id), 0) FROM resource_soft_blocked_accounts) + 100, nextval('resource_soft_blocked_accounts_seq')))");
+            connection.commit();
+            statement.execute("ANALYZE resources");
+            statement.execute("ANALYZE resource_skills");
+            statement.execute("ANALYZE resource_soft_blocked_accounts");
+        } catch (SQLException | IOException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private long appendResource(int index, long id, long nextBlockId, List<Long> accountIds,
+                                StringBuilder resources, StringBuilder skills, StringBuilder blocks) {
+        String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String employeeId = String.format("%s%06d", EMPLOYEE_ID_PREFIX, index + 1);
+        String status = STATUSES.pick(random);
+        String[] family = FAMILIES.pick(random);
+        // Roughly gamma shaped: most people have 2-8 years, a thin tail up to 20
+        int experience = Math.min(20, (int) Math.round(Math.abs(random.nextGaussian() * 3 + 5)));
+
+        LocalDate availabilityDate = null;
+        LocalDate releaseDate = null;
+        switch (status) {
+            case "ATP", "SOFT_BLOCKED" -> availabilityDate = today.minusDays(random.nextInt(120));
+            case "DEPLOYED" -> availabilityDate = random.nextInt(3) == 0 ? today.plusDays(random.nextInt(182)) : null;
+            case "TRAINEE", "INTERVIEW_SCHEDULED" -> availabilityDate = today.plusDays(random.nextInt(60));
+            case "NOTICE" -> releaseDate = today.plusDays(random.nextInt(90));
+            case "LEAVE" -> availabilityDate = today.plusDays(7 + random.nextInt(60));
+            default -> { }
+        }
+        LocalDateTime createdAt = today.minusDays(random.nextInt(720)).atTime(9, 0);
+        double ctc = Math.round((400_000 + experience * 180_000) * (0.8 + random.nextDouble() * 0.4) / 1000.0) * 1000.0;
+
+        resources.append(id).append(',').append(employeeId).append(',')
+                .append(first).append(' ').append(last).append(',')
+                .append(first.toLowerCase()).append('.').append(last.toLowerCase()).append('.')
+                .append(employeeId.toLowerCase()).append("@load.xebia.test,")
+                .append(experience >= 8 ? "Senior " : "").append(family[0]).append(',')
+                .append(LOCATIONS.pick(random)).append(',').append(status).append(',')
+                .append(csv(availabilityDate)).append(',').append(csv(releaseDate)).append(',')
+                .append(experience).append(',').append(ctc).append(",INR,")
+                .append(createdAt).append(',').append(createdAt).append('\n');
+
+        Set<String> names = new LinkedHashSet<>();
+        int primaryCount = 2 + random.nextInt(3);
+        for (int s = 1; s < family.length && names.size() < primaryCount; s++) {
+            if (s <= 2 || random.nextInt(3) > 0) {
+                names.add(family[s]);
+            }
+        }
+        int primaries = names.size();
+        int secondaryCount = random.nextInt(4);
+        for (int s = 0; s < secondaryCount; s++) {
+            names.add(SECONDARY.pick(random));
+        }
+        int position = 0;
+        for (String name : names) {
+            int order = position++;
+            boolean primary = order < primaries;
+            int years = Math.max(0, experience - random.nextInt(Math.max(1, primary ? 3 : experience + 1)));
+            skills.append(id).append(',').append(csvText(name)).append(',').append(level(years)).append(',')
+                    .append(primary ? "PRIMARY" : "SECONDARY").append(',').append(years).append(',').append(order)
+                    .append('\n');
+        }
+
+        if ("SOFT_BLOCKED".equals(status) && !accountIds.isEmpty()) {
+            int blockCount = 1 + (random.nextInt(4) == 0 ? 1 : 0);
+            Set<Long> accounts = new LinkedHashSet<>();
+            while (accounts.size() < Math.min(blockCount, accountIds.size())) {
+                accounts.add(accountIds.get(random.nextInt(accountIds.size())));
+            }
+            for (Long accountId : accounts) {
+                blocks.append(nextBlockId++).append(',').append(id).append(',').append(accountId).append(',')
+                        .append(today.plusDays(7 + random.nextInt(50))).append(',')
+                        .append(createdAt).append(',').append(createdAt).append('\n');
+            }
+        }
+        return nextBlockId;
+    }
+
+    private static String level(int years) {
+        return years >= 10 ? "EXPERT" : years >= 5 ? "ADVANCED" : years >= 2 ? "INTERMEDIATE" : "BEGINNER";
+    }
+
+    private static String csv(LocalDate date) {
+        return date != null ? date.toString() : "";
+    }
+
+    private static String csvText(String value) {
+        return value.contains(",") || value.contains("\"") ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    private static long queryLong(Statement statement, String sql) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    static final class Weighted<T> {
+
+        private final List<T> values = new ArrayList<>();
+        private final List<Double> cumulative = new ArrayList<>();
+        private double total;
+
+        Weighted<T> add(T value, double weight) {
+            total += weight;
+            values.add(value);
+            cumulative.add(total);
+            return this;
+        }
+
+        T pick(Random random) {
+            double r = random.nextDouble() * total;
+            for (int i = 0; i < values.size(); i++) {
+                if (r < cumulative.get(i)) {
+                    return values.get(i);
+                }
+            }
+            return values.get(values.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.xebia.talentacquisition.load;
+
+import java.util.Arrays;
+
+/**
+ * Collects request latencies for one scenario. Each worker thread records into its own recorder and the
+ * recorders are merged once the run is over, so recording needs no synchronization.
+ */
+final class LatencyRecorder {
+
+    private long[] micros = new long[1024];
+    private int size;
+    private int errors;
+    private int rejected;
+
+    void record(long latencyNanos, int status) {
+        if (status == 429) {
+            rejected++;
+            return;
+        }
+        if (status >= 400) {
+            errors++;
+            return;
+        }
+        if (size == micros.length) {
+            micros = Arrays.copyOf(micros, size * 2);
+        }
+        micros[size++] = latencyNanos / 1_000;
+    }
+
+    void recordError() {
+        errors++;
+    }
+
+    void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.micros[i] * 1_000, 200);
+        }
+        errors += other.errors;
+        rejected += other.rejected;
+    }
+
+    int count() {
+        return size;
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    int rejected() {
+        return rejected;
+    }
+
+    // Nearest-rank percentile in milliseconds
+    double percentileMillis(double percentile) {
+        if (size == 0) {
+            return Double.NaN;
+        }
+        long[] sorted = Arrays.copyOf(micros, size);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * size);
+        return sorted[Math.max(0, rank - 1)] / 1_000.0;
+    }
+}
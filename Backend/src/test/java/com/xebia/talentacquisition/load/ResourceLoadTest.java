@@ -0,0 +1,164 @@
+package com.xebia.talentacquisition.load;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Scripted load scenarios against the generated bench data (see {@link BenchDataGenerator}). Each scenario
+ * runs with a fixed number of closed-loop workers for a fixed time after a warm-up and reports throughput
+ * and p50/p95/p99 latency. Run with ./gradlew loadTest, tuning load.concurrency and load.durationSeconds.
+ */
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "admission-control.enabled=false"
+})
+class ResourceLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 8);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("load.durationSeconds", 20));
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("load.warmupSeconds", 5));
+
+    private static final String[] LOCATIONS = {"Bangalore", "Pune", "Gurgaon", "Hyderabad", "Mumbai"};
+    private static final String[] STATUSES = {"ATP", "DEPLOYED", "SOFT_BLOCKED"};
+    private static final String[] SKILLS = {"java", "spring boot", "react", "typescript", "aws", "k8s", "python",
+            "kafka", "docker", "node", "c#", "flutter"};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    private List<String> employeeIds;
+    private List<Long> accountIds;
+
+    @BeforeAll
+    void loadSamples() {
+        employeeIds = jdbcTemplate.queryForList("SELECT employee_id FROM resources WHERE employee_id LIKE ? " +
+                "ORDER BY random() LIMIT 5000", String.class, BenchDataGenerator.EMPLOYEE_ID_PREFIX + "%");
+        accountIds = jdbcTemplate.queryForList("SELECT id FROM accounts", Long.class);
+        assumeTrue(!employeeIds.isEmpty() && !accountIds.isEmpty(), "run ./gradlew generateBenchData first");
+    }
+
+    @Test
+    void reportLatencyPerEndpoint() throws Exception {
+        Map<String, Function<ThreadLocalRandom, HttpRequest>> scenarios = new LinkedHashMap<>();
+        scenarios.put("list", r -> get("/api/v1/resources?page=" + (1 + r.nextInt(50)) + "&limit=20"
+                + (r.nextBoolean() ? "&location=" + pick(r, LOCATIONS) : "")
+                + (r.nextBoolean() ? "&status=" + pick(r, STATUSES) : "")));
+        scenarios.put("list-by-skill", r -> get("/api/v1/resources?limit=20&skill=" + pick(r, SKILLS).replace(" ", "%20")));
+        scenarios.put("search-by-skills", r -> post("/api/v1/resources/search-by-skills",
+                "{\"skills\":[\"" + pick(r, SKILLS) + "\",\"" + pick(r, SKILLS) + "\"],\"page\":1,\"limit\":20}"));
+        scenarios.put("search-primary-secondary", r -> post("/api/v1/resources/search-by-primary-secondary-skills",
+                "{\"primarySkills\":[\"" + pick(r, SKILLS) + "\"],\"secondarySkills\":[\"" + pick(r, SKILLS) + "\"]}"));
+        scenarios.put("detail", r -> get("/api/v1/resources/" + employeeIds.get(r.nextInt(employeeIds.size()))));
+        scenarios.put("soft-block", r -> HttpRequest.newBuilder(uri("/api/v1/resources/"
+                        + employeeIds.get(r.nextInt(employeeIds.size())) + "/soft-block?accountId="
+                        + accountIds.get(r.nextInt(accountIds.size())) + "&blockedUntil=" + LocalDate.now().plusDays(14 + r.nextInt(30))))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build());
+        scenarios.put("export", r -> get("/api/v1/resources/export?format=csv&location=" + pick(r, LOCATIONS)
+                + "&status=" + pick(r, STATUSES)));
+
+        System.out.printf("%n%d workers, %ds per scenario after %ds warm-up, %d resources%n",
+                CONCURRENCY, DURATION.toSeconds(), WARMUP.toSeconds(),
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM resources", Long.class));
+        System.out.printf("%-26s %9s %7s %6s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "429", "req/s", "p50 ms", "p95 ms", "p99 ms");
+        Map<String, LatencyRecorder> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Function<ThreadLocalRandom, HttpRequest>> scenario : scenarios.entrySet()) {
+            run(scenario.getValue(), WARMUP);
+            LatencyRecorder recorder = run(scenario.getValue(), DURATION);
+            results.put(scenario.getKey(), recorder);
+            System.out.printf("%-26s %9d %7d %6d %9.1f %9.1f %9.1f %9.1f%n", scenario.getKey(),
+                    recorder.count(), recorder.errors(), recorder.rejected(),
+                    recorder.count() / (double) DURATION.toSeconds(),
+                    recorder.percentileMillis(50), recorder.percentileMillis(95), recorder.percentileMillis(99));
+        }
+        results.forEach((name, recorder) -> assertThat(recorder.errors()).as("errors in %s", name).isZero());
+    }
+
+    private LatencyRecorder run(Function<ThreadLocalRandom, HttpRequest> scenario, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<LatencyRecorder>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(workers.submit(() -> {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = scenario.apply(random);
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            recorder.record(System.nanoTime() - start, response.statusCode());
+                        } catch (IOException e) {
+                            recorder.recordError();
+                        }
+                    }
+                    return recorder;
+                }));
+            }
+            LatencyRecorder merged = new LatencyRecorder();
+            for (Future<LatencyRecorder> future : futures) {
+                merged.merge(future.get());
+            }
+            return merged;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String pick(ThreadLocalRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,58 @@
+package com.xebia.talentacquisition.profiling;
+
+import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.mapper.ResourceMapper;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ServiceProfilingAspectTest {
+
+    private static final String EVENT = "com.xebia.talentacquisition.ServiceOperation";
+
+    private final ResourceMapper mapper = proxy(new ResourceMapper());
+
+    @Test
+    void recordsOneEventPerCallWithComponentAndOutcome(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("operations.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT).withoutThreshold();
+            recording.start();
+            mapper.toDTO(Resource.builder().id(1L).employeeId("EMP001").name("Jane").build());
+            assertThatThrownBy(() -> mapper.toDTO(Resource.builder().skills(null).build())).isInstanceOf(NullPointerException.class);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(EVENT))
+                .toList();
+        assertThat(events).extracting(event -> event.getString("component"), event -> event.getString("operation"),
+                        event -> event.getBoolean("failed"))
+                .containsExactly(
+                        tuple("ResourceMapper", "toDTO", false),
+                        tuple("ResourceMapper", "toDTO", true));
+    }
+
+    @Test
+    void callsPassThroughWhenNoRecordingIsRunning() {
+        assertThat(mapper.toDTO(Resource.builder().employeeId("EMP002").build()).getEmployeeId()).isEqualTo("EMP002");
+    }
+
+    private static ResourceMapper proxy(ResourceMapper target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceProfilingAspect());
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,42 @@
+package com.xebia.talentacquisition.repository;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the availability window predicate can read resources through the GiST range index from
+ * schema.sql under a generic plan, which is what a prepared statement with bound dates ends up with. Run with
+ * ./gradlew planTest; each test rolls back.
+ */
+@Tag("plan")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "spring.jpa.show-sql=false")
+@Transactional
+class AvailabilityIndexPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void windowPredicateUsesTheRangeIndexInAGenericPlan() {
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+        // Only to tell "cannot use the index" apart from "chose not to" on a small table
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        jdbcTemplate.execute("PREPARE available_in_window(text, text) AS SELECT r.id FROM resources r " +
+                "WHERE r.deleted_at IS NULL" + ResourceRepository.AVAILABLE_IN_WINDOW
+                .replace(":availableFrom", "$1")
+                .replace(":availableTo", "$2"));
+        try {
+            assertThat(String.join("\n", jdbcTemplate.queryForList(
+                    "EXPLAIN EXECUTE available_in_window('2024-01-01', NULL)", String.class)))
+                    .contains("idx_resource_availability");
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE available_in_window");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.xebia.talentacquisition.repository;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the plans of the ATP queries against the configured Postgres: they must read resources through the
+ * partial bench index from schema.sql instead of scanning the whole table, and a status update must move the
+ * row out of the index. Run with ./gradlew planTest; each test rolls back.
+ */
+@Tag("plan")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "spring.jpa.show-sql=false")
+@Transactional
+class BenchIndexPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void atpCountsReadOnlyTheBenchIndex() {
+        assertThat(plan(ResourceRepository.ATP_LOCATION_COUNTS))
+                .contains("idx_resource_bench_live")
+                .doesNotContain("Seq Scan on resources");
+        assertThat(plan(ResourceRepository.ATP_SKILL_COUNTS))
+                .contains("idx_resource_bench_live")
+                .doesNotContain("Seq Scan on resources");
+    }
+
+    @Test
+    void statusUpdatesMoveRowsInAndOutOfTheBenchIndex() {
+        Long id = jdbcTemplate.queryForObject(
+                "SELECT id FROM resources WHERE status = 'ATP' ORDER BY id LIMIT 1", Long.class);
+        assertThat(id).isNotNull();
+        long atp = countAtp();
+
+        jdbcTemplate.update("UPDATE resources SET status = 'DEPLOYED' WHERE id = ?", id);
+        assertThat(countAtp()).isEqualTo(atp - 1);
+
+        jdbcTemplate.update("UPDATE resources SET status = 'ATP' WHERE id = ?", id);
+        assertThat(countAtp()).isEqualTo(atp);
+    }
+
+    // Sums the location counts, which are read from the bench index (see above)
+    private long countAtp() {
+        return jdbcTemplate.queryForList(ResourceRepository.ATP_LOCATION_COUNTS).stream()
+                .mapToLong(row -> ((Number) row.get("count")).longValue())
+                .sum();
+    }
+
+    private String plan(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
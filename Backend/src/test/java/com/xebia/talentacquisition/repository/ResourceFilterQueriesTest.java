@@ -0,0 +1,151 @@
+package com.xebia.talentacquisition.repository;
+
+import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.entity.Skill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The /resources page, the export keyset walk and the facets are built from the same filter predicate, as are
+ * /search-by-skills and its facets, so for any filter they must agree. Runs against the configured Postgres
+ * on rows of a location of its own; each test rolls back.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "spring.jpa.show-sql=false")
+@Transactional
+class ResourceFilterQueriesTest {
+
+    static final String LOCATION = "Filter Queries Test";
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void saveResources() {
+        ids.add(save("FQTEST1", "Asha Rao", Resource.ResourceStatus.ATP, LocalDate.of(2024, 3, 1), null, "Java", "Kafka").getId());
+        ids.add(save("FQTEST2", "Bilal Khan", Resource.ResourceStatus.ATP, LocalDate.of(2024, 5, 1), null, "React").getId());
+        ids.add(save("FQTEST3", "Chen Li", Resource.ResourceStatus.DEPLOYED, null, null, "Java").getId());
+        ids.add(save("FQTEST4", "Dara Singh", Resource.ResourceStatus.NOTICE, LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 2, 1), "Java", "React").getId());
+        resourceRepository.softDeleteByIds(List.of(
+                save("FQTEST5", "Eve Deleted", Resource.ResourceStatus.ATP, null, null, "Java").getId()));
+    }
+
+    @Test
+    void exportWalkSelectsTheSameRowsAsThePage() {
+        assertSameRows(null, null, null, null, null);
+        assertSameRows("ATP", null, null, null, null);
+        assertSameRows(null, "Java", null, null, null);
+        assertSameRows(null, "Java,React", "khan", null, null);
+        assertSameRows(null, null, null, "2024-01-15", "2024-03-15");
+        assertSameRows(null, null, null, "2024-04-01", null);
+    }
+
+    @Test
+    void pageFiltersByEveryPredicate() {
+        assertThat(page(null, null, null, null, null)).containsExactlyElementsOf(ids);
+        assertThat(page("ATP", null, null, null, null)).containsExactly(ids.get(0), ids.get(1));
+        assertThat(page(null, "Java", null, null, null)).containsExactly(ids.get(0), ids.get(2), ids.get(3));
+        assertThat(page(null, null, "KAFKA", null, null)).containsExactly(ids.get(0));
+        assertThat(page(null, null, null, "2024-01-15", "2024-03-15")).containsExactly(ids.get(0), ids.get(3));
+        // An undated DEPLOYED resource has no availability, so any window drops it, even a half-open one
+        assertThat(page(null, null, null, null, "2024-12-31")).containsExactly(ids.get(0), ids.get(1), ids.get(3));
+        assertThat(page(null, null, null, "2024-04-01", null)).containsExactly(ids.get(0), ids.get(1));
+    }
+
+    @Test
+    void facetsCountTheFilteredRows() {
+        assertFacetsMatchPage(null, null, null, null, null);
+        assertFacetsMatchPage("ATP", null, null, null, null);
+        assertFacetsMatchPage(null, "Java,React", null, null, null);
+        assertFacetsMatchPage(null, null, "a", "2024-01-15", null);
+    }
+
+    @Test
+    void skillSearchFacetsCountTheSearchedRows() {
+        for (String skillNames : Arrays.asList(null, "Java", "React,Kafka")) {
+            List<Resource> rows = resourceRepository.findBySkillsAndLocation(skillNames, null, LOCATION, null,
+                    null, null, PageRequest.of(0, 100)).getContent();
+            assertThat(facets(resourceRepository.findFacetsBySkillsAndLocation(skillNames, LOCATION, null, null, null)))
+                    .isEqualTo(facetsOf(rows));
+        }
+        assertThat(facets(resourceRepository.findFacetsBySkillsAndLocation("Java", LOCATION, null, "2024-01-15", "2024-03-15")))
+                .isEqualTo(facetsOf(resourceRepository.findBySkillsAndLocation("Java", "0", LOCATION, null,
+                        "2024-01-15", "2024-03-15", PageRequest.of(0, 100)).getContent()));
+    }
+
+    private void assertFacetsMatchPage(String status, String skillName, String search, String from, String to) {
+        List<Resource> rows = resourceRepository.findWithFilters(status, LOCATION, skillName, search, from, to,
+                PageRequest.of(0, 100)).getContent();
+        assertThat(rows).isNotEmpty();
+        assertThat(facets(resourceRepository.findFacetsWithFilters(status, LOCATION, skillName, search, from, to)))
+                .isEqualTo(facetsOf(rows));
+    }
+
+    private static Map<String, Long> facets(List<ResourceRepository.FacetCount> counts) {
+        return counts.stream().collect(Collectors.toMap(
+                count -> count.getFacet() + ":" + count.getValue(), ResourceRepository.FacetCount::getCount));
+    }
+
+    // Every resource counts once for its status, once for its location and once for each distinct skill
+    private static Map<String, Long> facetsOf(List<Resource> rows) {
+        return rows.stream()
+                .flatMap(resource -> Stream.concat(
+                        Stream.of("status:" + resource.getStatus(), "location:" + resource.getLocation()),
+                        resource.getSkills().stream().map(skill -> "skill:" + skill.getName()).distinct()))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    private void assertSameRows(String status, String skillName, String search, String from, String to) {
+        List<Long> walked = new ArrayList<>();
+        long afterId = 0;
+        List<Long> batch;
+        while (!(batch = resourceRepository.findIdsWithFilters(status, LOCATION, skillName, search, from, to, afterId, 2))
+                .isEmpty()) {
+            walked.addAll(batch);
+            afterId = batch.get(batch.size() - 1);
+        }
+        assertThat(walked).containsExactlyElementsOf(page(status, skillName, search, from, to));
+    }
+
+    private List<Long> page(String status, String skillName, String search, String from, String to) {
+        return resourceRepository.findWithFilters(status, LOCATION, skillName, search, from, to,
+                        PageRequest.of(0, 100, Sort.by("id"))).getContent().stream()
+                .map(Resource::getId)
+                .toList();
+    }
+
+    private Resource save(String employeeId, String name, Resource.ResourceStatus status, LocalDate availableFrom,
+                          LocalDate releaseDate, String... skills) {
+        return resourceRepository.saveAndFlush(Resource.builder()
+                .employeeId(employeeId)
+                .name(name)
+                .email(employeeId.toLowerCase() + "@example.com")
+                .location(LOCATION)
+                .status(status)
+                .availabilityDate(availableFrom)
+                .releaseDate(releaseDate)
+                .skills(Arrays.stream(skills)
+                        .map(skill -> Skill.builder().name(skill).level(Skill.SkillLevel.ADVANCED)
+                                .type(Skill.SkillType.PRIMARY).yearsOfExperience(3).build())
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .build());
+    }
+}
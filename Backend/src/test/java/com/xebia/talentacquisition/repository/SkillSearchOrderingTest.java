@@ -0,0 +1,59 @@
+package com.xebia.talentacquisition.repository;
+
+import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.entity.Skill;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Skill searches rank resources by how many requested skills they have. A resource listing two spellings of
+ * one requested skill must not outrank one that has two different requested skills. Runs against the
+ * configured Postgres; each test rolls back.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "spring.jpa.show-sql=false")
+@Transactional
+class SkillSearchOrderingTest {
+
+    private static final String LOCATION = "Skill Ordering Test";
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Test
+    void spellingVariantsCountAsOneMatchedSkill() {
+        Resource variants = save("ORDTEST1", "Aaron Variants", "Spring Boot", "SpringBoot");
+        Resource distinct = save("ORDTEST2", "Zoe Distinct", "Spring Boot", "Kafka");
+
+        assertThat(resourceRepository.findBySkillsAndLocation("Spring Boot,SpringBoot,Kafka", "0,0,1", LOCATION,
+                null, null, null, PageRequest.of(0, 10)).getContent())
+                .extracting(Resource::getId)
+                .containsExactly(distinct.getId(), variants.getId());
+
+        assertThat(resourceRepository.findByPrimaryAndSecondarySkills("Spring Boot,SpringBoot", "0,0", "Kafka", "0",
+                LOCATION, null, null, null, PageRequest.of(0, 10)).getContent())
+                .extracting(Resource::getId)
+                .containsExactly(distinct.getId(), variants.getId());
+    }
+
+    private Resource save(String employeeId, String name, String... skills) {
+        return resourceRepository.saveAndFlush(Resource.builder()
+                .employeeId(employeeId)
+                .name(name)
+                .email(employeeId.toLowerCase() + "@example.com")
+                .location(LOCATION)
+                .skills(Arrays.stream(skills)
+                        .map(skill -> Skill.builder().name(skill).level(Skill.SkillLevel.ADVANCED)
+                                .type(Skill.SkillType.PRIMARY).yearsOfExperience(3).build())
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .build());
+    }
+}
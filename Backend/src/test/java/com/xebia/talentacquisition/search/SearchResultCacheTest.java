@@ -0,0 +1,34 @@
+package com.xebia.talentacquisition.search;
+
+import com.xebia.talentacquisition.event.ResourceChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchResultCacheTest {
+
+    private final SearchResultCache cache = new SearchResultCache(true, 100, 300, new SimpleMeterRegistry());
+
+    @Test
+    void returnsResultsForEqualKeysUntilAResourceChanges() {
+        cache.put(cache.key("resources", "java", 0, 20), new SearchResultCache.Result(List.of(3L, 1L), 2, null));
+        assertThat(cache.get(cache.key("resources", "java", 0, 20)).ids()).containsExactly(3L, 1L);
+        assertThat(cache.get(cache.key("resources", "java", 1, 20))).isNull();
+
+        cache.onResourceChanged(ResourceChangedEvent.updated(List.of(1L)));
+        assertThat(cache.get(cache.key("resources", "java", 0, 20))).isNull();
+    }
+
+    @Test
+    void doesNotStoreResultsReadBeforeAChange() {
+        SearchResultCache.Key key = cache.key("resources", "java");
+        cache.onResourceChanging(ResourceChangedEvent.updated(List.of(1L)));
+        cache.put(key, new SearchResultCache.Result(List.of(1L), 1, null));
+
+        cache.onResourceChanged(ResourceChangedEvent.updated(List.of(1L)));
+        assertThat(cache.get(new SearchResultCache.Key(cache.dataVersion(), key.parts()))).isNull();
+    }
+}
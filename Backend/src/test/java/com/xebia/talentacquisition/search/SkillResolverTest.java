@@ -0,0 +1,71 @@
+package com.xebia.talentacquisition.search;
+
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SkillResolverTest {
+
+    private final SkillResolver.Vocabulary vocabulary = SkillResolver.Vocabulary.build(
+            Map.of("k8s", "kubernetes", "js", "javascript", "rest", "restapi"),
+            Set.of("Spring Boot", "SpringBoot", "Kubernetes", "JavaScript", "TypeScript", "Java", "REST API",
+                    "Redis", "Redux"));
+
+    @Test
+    void spellingVariantsResolveToEveryStoredForm() {
+        assertThat(vocabulary.formsOf("spring-boot")).containsExactlyInAnyOrder("Spring Boot", "SpringBoot");
+    }
+
+    @Test
+    void synonymsAndTyposResolveToCanonicalSkill() {
+        assertThat(vocabulary.formsOf("k8s")).containsExactly("Kubernetes");
+        assertThat(vocabulary.formsOf("Kuberentes")).containsExactly("Kubernetes");
+        assertThat(vocabulary.formsOf("Sprng Boot")).containsExactlyInAnyOrder("Spring Boot", "SpringBoot");
+    }
+
+    @Test
+    void shortTermsMustMatchExactly() {
+        assertThat(vocabulary.formsOf("js")).containsExactly("JavaScript");
+        assertThat(vocabulary.formsOf("jva")).isEmpty();
+    }
+
+    @Test
+    void unknownShortSkillsDoNotResolveToANeighbour() {
+        assertThat(vocabulary.formsOf("rest")).containsExactly("REST API");
+        assertThat(vocabulary.formsOf("Rust")).isEmpty();
+    }
+
+    @Test
+    void typosEquallyCloseToTwoSkillsResolveToNeither() {
+        assertThat(vocabulary.formsOf("Redus")).isEmpty();
+        assertThat(vocabulary.formsOf("Rediss")).containsExactly("Redis");
+    }
+
+    @Test
+    void registeringIgnoresNullNames() {
+        SkillResolver resolver = new SkillResolver(mock(ResourceRepository.class));
+
+        resolver.register(Arrays.asList("Golang", null));
+        resolver.register(Arrays.asList(null, "Golang"));
+
+        assertThat(resolver.resolve("golang")).containsExactly("Golang");
+    }
+
+    @Test
+    void spellingVariantsOfOneSkillFormOneGroup() {
+        SkillResolver resolver = new SkillResolver(mock(ResourceRepository.class));
+        resolver.register(List.of("Spring Boot", "SpringBoot", "Kafka"));
+
+        SkillResolver.ResolvedSkills resolved = resolver.resolveAll(List.of("springboot", "Spring Boot", "kafka"));
+
+        assertThat(resolved.skills()).containsExactlyInAnyOrder("Spring Boot", "SpringBoot", "Kafka");
+        assertThat(resolved.groups()).containsExactly(0, 0, 1);
+    }
+}
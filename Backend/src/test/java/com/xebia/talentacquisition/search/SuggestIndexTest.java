@@ -0,0 +1,89 @@
+package com.xebia.talentacquisition.search;
+
+import com.xebia.talentacquisition.dto.SuggestionDTO;
+import com.xebia.talentacquisition.event.ResourceChangedEvent;
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SuggestIndexTest {
+
+    private final ResourceRepository resourceRepository = mock(ResourceRepository.class);
+    private final SuggestIndex index = new SuggestIndex(resourceRepository);
+
+    @BeforeEach
+    void loadIndex() {
+        when(resourceRepository.streamSuggestSources()).thenReturn(Stream.of(
+                source(1L, "EMP001", "Jane van Dyke", "Java Developer", "Java", "Spring Boot"),
+                source(2L, "EMP002", "Javed Khan", "QA Engineer", "Java", "Selenium"),
+                source(3L, "EMP003", "Priya Jain", "Java Developer", "JavaScript")));
+        index.loadIndex();
+    }
+
+    @Test
+    void exactTermsComeBeforePrefixMatchesAndLaterWords() {
+        assertThat(index.suggest("java", 10))
+                .extracting(SuggestionDTO::getType, SuggestionDTO::getValue, SuggestionDTO::getCount)
+                .containsExactly(
+                        tuple(SuggestionDTO.Type.SKILL, "Java", 2),
+                        tuple(SuggestionDTO.Type.SKILL, "JavaScript", 1),
+                        tuple(SuggestionDTO.Type.DESIGNATION, "Java Developer", 2));
+        assertThat(index.suggest("jav", 10)).extracting(SuggestionDTO::getValue)
+                .containsExactly("Java", "JavaScript", "Java Developer", "Javed Khan");
+    }
+
+    @Test
+    void matchesLaterWordsAndEmployeeIds() {
+        assertThat(index.suggest("van d", 10)).extracting(SuggestionDTO::getEmployeeId).containsExactly("EMP001");
+        assertThat(index.suggest("  DYKE ", 10)).extracting(SuggestionDTO::getValue).containsExactly("Jane van Dyke");
+        assertThat(index.suggest("emp00", 2)).extracting(SuggestionDTO::getValue).containsExactly("EMP001", "EMP002");
+    }
+
+    @Test
+    void laterWordMatchesDoNotCrowdOutWholeNameMatches() {
+        when(resourceRepository.streamSuggestSources()).thenReturn(Stream.of(
+                source(1L, "EMP001", "Zed Al Khan", "QA Engineer"),
+                source(2L, "EMP002", "Amy Smith", "QA Engineer"),
+                source(3L, "EMP003", "Bo Aaron", "QA Engineer")));
+        index.loadIndex();
+
+        assertThat(index.suggest("a", 1)).extracting(SuggestionDTO::getValue).containsExactly("Amy Smith");
+        assertThat(index.suggest("a", 3)).extracting(SuggestionDTO::getValue)
+                .containsExactly("Amy Smith", "Bo Aaron", "Zed Al Khan");
+    }
+
+    @Test
+    void changesReplaceThePreviousEntryAndTermCounts() {
+        when(resourceRepository.findSuggestSources(any())).thenReturn(List.of(
+                source(2L, "EMP002", "Javed Ali", "QA Engineer", "Selenium")));
+        index.onResourceChanged(ResourceChangedEvent.updated(List.of(2L)));
+
+        assertThat(index.suggest("khan", 10)).isEmpty();
+        assertThat(index.suggest("ali", 10)).extracting(SuggestionDTO::getValue).containsExactly("Javed Ali");
+        assertThat(index.suggest("java", 1)).extracting(SuggestionDTO::getCount).containsExactly(1);
+
+        index.onResourceChanged(ResourceChangedEvent.deleted(List.of(2L)));
+        assertThat(index.suggest("selenium", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private static ResourceRepository.SuggestSource source(Long id, String employeeId, String name,
+                                                           String designation, String... skills) {
+        return new ResourceRepository.SuggestSource() {
+            public Long getId() { return id; }
+            public String getEmployeeId() { return employeeId; }
+            public String getName() { return name; }
+            public String getDesignation() { return designation; }
+            public String getSkills() { return String.join("\u001f", skills); }
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package com.xebia.talentacquisition.service;
+
+import com.xebia.talentacquisition.dto.AccountDTO;
+import com.xebia.talentacquisition.dto.AccountSoftBlockDTO;
+import com.xebia.talentacquisition.entity.Account;
+import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.repository.AccountRepository;
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Account soft-block listing and active counts, with blocks written through ResourceService. Runs against the
+ * configured Postgres on accounts and resources of its own; each test rolls back.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "spring.jpa.show-sql=false")
+@Transactional
+class AccountServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Account acme;
+    private Account globex;
+    private Resource first;
+    private Resource second;
+
+    @BeforeEach
+    void saveFixtures() {
+        acme = accountRepository.saveAndFlush(Account.builder().name("Soft Block Test Acme").build());
+        globex = accountRepository.saveAndFlush(Account.builder().name("Soft Block Test Globex").build());
+        first = save("SBTEST1", "Asha Blocked");
+        second = save("SBTEST2", "Bilal Blocked");
+    }
+
+    @Test
+    void blocksAreListedByExpiryAndCounted() {
+        resourceService.softBlockResource("SBTEST2", acme.getId(), TODAY.plusDays(20));
+        resourceService.softBlockResource("SBTEST1", acme.getId(), TODAY.plusDays(10));
+
+        assertThat(blocks(acme, null, null))
+                .extracting(AccountSoftBlockDTO::getEmployeeId, AccountSoftBlockDTO::getBlockedUntil)
+                .containsExactly(tuple("SBTEST1", TODAY.plusDays(10)), tuple("SBTEST2", TODAY.plusDays(20)));
+        assertThat(accountService.getSoftBlocks(acme.getId(), 2, 1, null, null).getData())
+                .extracting(AccountSoftBlockDTO::getEmployeeId).containsExactly("SBTEST2");
+        assertThat(activeBlocks(acme)).isEqualTo(2);
+        assertThat(activeBlocks(globex)).isZero();
+    }
+
+    @Test
+    void expiredBlocksOnlyShowUpInAnExplicitWindow() {
+        resourceService.softBlockResource("SBTEST1", acme.getId(), TODAY.minusDays(1));
+        resourceService.softBlockResource("SBTEST2", acme.getId(), TODAY);
+
+        // A block that ends today is still active
+        assertThat(blocks(acme, null, null)).extracting(AccountSoftBlockDTO::getEmployeeId).containsExactly("SBTEST2");
+        assertThat(activeBlocks(acme)).isEqualTo(1);
+        assertThat(blocks(acme, TODAY.minusDays(30), null))
+                .extracting(AccountSoftBlockDTO::getEmployeeId).containsExactly("SBTEST1", "SBTEST2");
+        assertThat(blocks(acme, TODAY.minusDays(30), TODAY.minusDays(1)))
+                .extracting(AccountSoftBlockDTO::getEmployeeId).containsExactly("SBTEST1");
+    }
+
+    @Test
+    void overlappingBlocksExtendPerAccountInsteadOfDuplicating() {
+        resourceService.softBlockResource("SBTEST1", acme.getId(), TODAY.plusDays(5));
+        resourceService.softBlockResource("SBTEST1", acme.getId(), TODAY.plusDays(15));
+        resourceService.softBlockResource("SBTEST1", globex.getId(), TODAY.plusDays(7));
+        entityManager.flush();
+        entityManager.clear();
+
+        resourceService.bulkSoftBlock(List.of(first.getId(), second.getId()), acme.getId(), TODAY.plusDays(30));
+        entityManager.clear();
+
+        assertThat(blocks(acme, null, null))
+                .extracting(AccountSoftBlockDTO::getEmployeeId, AccountSoftBlockDTO::getBlockedUntil)
+                .containsExactly(tuple("SBTEST1", TODAY.plusDays(30)), tuple("SBTEST2", TODAY.plusDays(30)));
+        assertThat(blocks(globex, null, null))
+                .extracting(AccountSoftBlockDTO::getEmployeeId, AccountSoftBlockDTO::getBlockedUntil)
+                .containsExactly(tuple("SBTEST1", TODAY.plusDays(7)));
+        assertThat(activeBlocks(acme)).isEqualTo(2);
+        assertThat(activeBlocks(globex)).isEqualTo(1);
+
+        // Blocks of deleted resources are neither listed nor counted
+        resourceRepository.softDeleteByIds(List.of(first.getId()));
+        assertThat(blocks(acme, null, null)).extracting(AccountSoftBlockDTO::getEmployeeId).containsExactly("SBTEST2");
+        assertThat(activeBlocks(globex)).isZero();
+    }
+
+    @Test
+    void rejectsUnknownAccountsAndInvertedWindows() {
+        assertThatThrownBy(() -> accountService.getSoftBlocks(-1L, null, null, null, null))
+                .hasMessageContaining("Account not found");
+        assertThatThrownBy(() -> blocks(acme, TODAY.plusDays(2), TODAY.plusDays(1)))
+                .hasMessageContaining("expiresFrom must not be after expiresTo");
+    }
+
+    private List<AccountSoftBlockDTO> blocks(Account account, LocalDate expiresFrom, LocalDate expiresTo) {
+        return accountService.getSoftBlocks(account.getId(), null, null, expiresFrom, expiresTo).getData();
+    }
+
+    private long activeBlocks(Account account) {
+        return accountService.getAllAccounts().getData().stream()
+                .filter(dto -> dto.getId().equals(account.getId()))
+                .map(AccountDTO::getActiveSoftBlocks)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Resource save(String employeeId, String name) {
+        return resourceRepository.saveAndFlush(Resource.builder()
+                .employeeId(employeeId)
+                .name(name)
+                .email(employeeId.toLowerCase() + "@example.com")
+                .location("Soft Block Test")
+                .status(Resource.ResourceStatus.ATP)
+                .build());
+    }
+}
@@ -0,0 +1,84 @@
+package com.xebia.talentacquisition.service;
+
+import com.xebia.talentacquisition.dto.BenchForecastWeekDTO;
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BenchForecastServiceTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2024, 3, 4);
+    private static final LocalDate HORIZON = MONDAY.plusWeeks(4);
+
+    @Test
+    void firstWeekCountsArrivalsFromThePreviousMondayOn() {
+        List<BenchForecastWeekDTO> weeks = BenchForecastService.sweep(List.of(
+                event(MONDAY.minusWeeks(3), 1),
+                event(MONDAY.minusWeeks(1).minusDays(1), 1),
+                event(MONDAY.minusWeeks(1), 1),
+                event(MONDAY.minusDays(2), 1),
+                event(MONDAY.minusDays(1), -1),
+                event(MONDAY, 1),
+                event(MONDAY.plusDays(1), 1),
+                event(MONDAY.plusWeeks(1), 1)), MONDAY, 3);
+
+        assertThat(weeks).extracting(BenchForecastWeekDTO::getTotalATP, BenchForecastWeekDTO::getNewATP)
+                .containsExactly(tuple(4, 3), tuple(6, 2), tuple(6, 0));
+        assertThat(weeks.get(0).getWeek()).isEqualTo("2024-03-04");
+        assertThat(weeks.get(0).getByLocation()).isEqualTo(Map.of("Pune", 4));
+    }
+
+    @Test
+    void softBlockedResourceArrivesTheDayAfterItsLastBlock() {
+        assertThat(events(interval(MONDAY, null, MONDAY.plusDays(9))))
+                .extracting(BenchForecastService.Event::date, BenchForecastService.Event::delta)
+                .containsExactly(tuple(MONDAY.plusDays(10), 1));
+        // A block that ended before the bench started does not move the start
+        assertThat(events(interval(MONDAY, MONDAY.plusWeeks(2), MONDAY.minusDays(1))))
+                .extracting(BenchForecastService.Event::date, BenchForecastService.Event::delta)
+                .containsExactly(tuple(MONDAY, 1), tuple(MONDAY.plusWeeks(2), -1));
+        // Blocked until the bench ends, or past the horizon, never arrives
+        assertThat(events(interval(MONDAY, MONDAY.plusWeeks(1), MONDAY.plusWeeks(1).minusDays(1)))).isEmpty();
+        assertThat(events(interval(null, null, HORIZON))).isEmpty();
+    }
+
+    @Test
+    void blockedArrivalIsCountedInTheWeekItLands() {
+        List<BenchForecastService.Event> events = events(interval(null, null, MONDAY.plusDays(2)));
+
+        assertThat(BenchForecastService.sweep(events, MONDAY, 2))
+                .extracting(BenchForecastWeekDTO::getTotalATP, BenchForecastWeekDTO::getNewATP)
+                .containsExactly(tuple(0, 0), tuple(1, 1));
+    }
+
+    private static List<BenchForecastService.Event> events(ResourceRepository.BenchInterval interval) {
+        List<BenchForecastService.Event> events = new ArrayList<>();
+        BenchForecastService.addEvents(interval, HORIZON, events);
+        events.sort(Comparator.comparing(BenchForecastService.Event::date));
+        return events;
+    }
+
+    private static BenchForecastService.Event event(LocalDate date, int delta) {
+        return new BenchForecastService.Event(date, delta, "Pune", new String[]{"Java"});
+    }
+
+    private static ResourceRepository.BenchInterval interval(LocalDate from, LocalDate until, LocalDate blockedUntil) {
+        ResourceRepository.BenchInterval interval = mock(ResourceRepository.BenchInterval.class);
+        when(interval.getLocation()).thenReturn("Pune");
+        when(interval.getBenchFrom()).thenReturn(from);
+        when(interval.getBenchUntil()).thenReturn(until);
+        when(interval.getBlockedUntil()).thenReturn(blockedUntil);
+        when(interval.getSkills()).thenReturn("Java\u001fKafka");
+        return interval;
+    }
+}
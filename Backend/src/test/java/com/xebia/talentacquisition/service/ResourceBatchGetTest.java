@@ -0,0 +1,60 @@
+package com.xebia.talentacquisition.service;
+
+import com.xebia.talentacquisition.dto.BatchGetResultDTO;
+import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Batch get by employee ID, with the IDs bound as a collection. Runs against the configured Postgres on rows of
+ * its own; each test rolls back.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "spring.jpa.show-sql=false")
+@Transactional
+class ResourceBatchGetTest {
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Test
+    void employeeIdsAreMatchedWhole() {
+        save("BGTEST1");
+        save("BGTEST2");
+        save("BGTEST3,X");
+
+        assertThat(resourceService.getResourcesByEmployeeIds(Arrays.asList(
+                "BGTEST1,BGTEST2", "BGTEST3,X", "BGTEST2", "BGTEST2", "", null)).getData())
+                .extracting(BatchGetResultDTO::getEmployeeId, BatchGetResultDTO::isFound)
+                .containsExactly(
+                        tuple("BGTEST1,BGTEST2", false),
+                        tuple("BGTEST3,X", true),
+                        tuple("BGTEST2", true),
+                        tuple("BGTEST2", true),
+                        tuple("", false),
+                        tuple(null, false));
+        assertThat(resourceService.getResourcesByEmployeeIds(List.of("")).getData())
+                .extracting(BatchGetResultDTO::isFound).containsExactly(false);
+    }
+
+    private void save(String employeeId) {
+        resourceRepository.saveAndFlush(Resource.builder()
+                .employeeId(employeeId)
+                .name("Batch " + employeeId)
+                .email(employeeId.replace(",", ".").toLowerCase() + "@example.com")
+                .location("Batch Get Test")
+                .status(Resource.ResourceStatus.ATP)
+                .build());
+    }
+}
@@ -0,0 +1,81 @@
+package com.xebia.talentacquisition.service;
+
+import com.xebia.talentacquisition.entity.Skill;
+import com.xebia.talentacquisition.search.SkillResolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceServiceTest {
+
+    @Test
+    void removingTheFirstSkillMovesOnlyTheLastIntoItsPosition() {
+        Skill java = skill("Java", 5);
+        Skill kafka = skill("Kafka", 3);
+        Skill react = skill("React", 2);
+        Skill sql = skill("SQL", 4);
+        List<Skill> current = new ArrayList<>(List.of(java, kafka, react, sql));
+
+        ResourceService.replaceSkills(current, List.of(skill("Kafka", 3), skill("React", 2), skill("SQL", 4)));
+
+        assertThat(current).extracting(Skill::getName).containsExactly("SQL", "Kafka", "React");
+        assertThat(current.get(1)).isSameAs(kafka);
+        assertThat(current.get(2)).isSameAs(react);
+    }
+
+    @Test
+    void keptSkillsStayInPlaceAndNewSkillsTakeFreedPositions() {
+        Skill java = skill("Java", 5);
+        Skill kafka = skill("Kafka", 3);
+        Skill react = skill("React", 2);
+        List<Skill> current = new ArrayList<>(List.of(java, kafka, react));
+        Skill olderReact = skill("React", 3);
+
+        ResourceService.replaceSkills(current, List.of(olderReact, skill("Go", 1), skill("Java", 5), skill("Rust", 1)));
+
+        assertThat(current).extracting(Skill::getName).containsExactly("Java", "Go", "React", "Rust");
+        assertThat(current.get(0)).isSameAs(java);
+        assertThat(current.get(2)).isSameAs(olderReact);
+    }
+
+    @Test
+    void dropsSeveralSkillsWithoutShiftingTheRest() {
+        List<Skill> current = new ArrayList<>(List.of(
+                skill("A", 1), skill("B", 1), skill("C", 1), skill("D", 1), skill("E", 1)));
+        Skill c = current.get(2);
+
+        ResourceService.replaceSkills(current, List.of(skill("C", 1), skill("E", 1)));
+
+        assertThat(current).extracting(Skill::getName).containsExactly("E", "C");
+        assertThat(current.get(1)).isSameAs(c);
+
+        ResourceService.replaceSkills(current, List.of());
+        assertThat(current).isEmpty();
+    }
+
+    @Test
+    void skillGroupsIgnoreRequestOrderButKeepGrouping() {
+        List<List<String>> javaThenSpring = ResourceService.skillGroups(new SkillResolver.ResolvedSkills(
+                List.of("Java", "java", "Spring Boot", "SpringBoot"), List.of(0, 0, 1, 1)));
+        List<List<String>> springThenJava = ResourceService.skillGroups(new SkillResolver.ResolvedSkills(
+                List.of("SpringBoot", "Spring Boot", "java", "Java"), List.of(0, 0, 1, 1)));
+        List<List<String>> oneGroup = ResourceService.skillGroups(new SkillResolver.ResolvedSkills(
+                List.of("Java", "java", "Spring Boot", "SpringBoot"), List.of(0, 0, 0, 0)));
+
+        assertThat(javaThenSpring).isEqualTo(springThenJava)
+                .containsExactly(List.of("Java", "java"), List.of("Spring Boot", "SpringBoot"));
+        assertThat(oneGroup).isNotEqualTo(javaThenSpring);
+    }
+
+    private static Skill skill(String name, int years) {
+        return Skill.builder()
+                .name(name)
+                .level(Skill.SkillLevel.ADVANCED)
+                .type(Skill.SkillType.PRIMARY)
+                .yearsOfExperience(years)
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.xebia.talentacquisition.service;
+
+import com.xebia.talentacquisition.entity.Resource;
+import com.xebia.talentacquisition.entity.SavedSearch;
+import com.xebia.talentacquisition.entity.SavedSearchMatch;
+import com.xebia.talentacquisition.entity.Skill;
+import com.xebia.talentacquisition.event.ResourceChangedEvent;
+import com.xebia.talentacquisition.event.SavedSearchChangedEvent;
+import com.xebia.talentacquisition.repository.ResourceRepository;
+import com.xebia.talentacquisition.repository.SavedSearchMatchRepository;
+import com.xebia.talentacquisition.repository.SavedSearchRepository;
+import com.xebia.talentacquisition.search.SkillResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class SavedSearchPercolatorTest {
+
+    private final SavedSearchRepository savedSearchRepository = mock(SavedSearchRepository.class);
+    private final SavedSearchMatchRepository savedSearchMatchRepository = mock(SavedSearchMatchRepository.class);
+    private final ResourceRepository resourceRepository = mock(ResourceRepository.class);
+    private final SkillResolver skillResolver = new SkillResolver(mock(ResourceRepository.class));
+    private final SavedSearchPercolator percolator = new SavedSearchPercolator(
+            savedSearchRepository, savedSearchMatchRepository, resourceRepository, skillResolver);
+
+    @BeforeEach
+    void loadIndex() {
+        skillResolver.register(List.of("Spring Boot", "SpringBoot", "Kafka", "Java"));
+        when(savedSearchRepository.findAllWithSkills()).thenReturn(List.of(
+                savedSearch(1L, SavedSearch.MatchMode.ANY, "springboot"),
+                savedSearch(2L, SavedSearch.MatchMode.ALL, "Java", "Kafca")));
+        when(savedSearchRepository.getReferenceById(anyLong()))
+                .thenAnswer(invocation -> savedSearch(invocation.getArgument(0), SavedSearch.MatchMode.ANY));
+        percolator.loadIndex();
+    }
+
+    @Test
+    void resolvesSkillsLikeTheSearchEndpoints() {
+        assertThat(percolate(resource(10L, "Spring Boot"))).containsExactly(1L);
+        assertThat(percolate(resource(11L, "Java", "Kafka"))).containsExactly(2L);
+        assertThat(percolate(resource(12L, "Java"))).isEmpty();
+    }
+
+    @Test
+    void spellingsRegisteredAfterLoadingAreMatched() {
+        skillResolver.register(List.of("Spring-Boot"));
+
+        assertThat(percolate(resource(10L, "Spring-Boot"))).containsExactly(1L);
+    }
+
+    @Test
+    void savedSearchChangesReplaceTheirCriteria() {
+        when(savedSearchRepository.findByIdWithSkills(3L))
+                .thenReturn(Optional.of(savedSearch(3L, SavedSearch.MatchMode.ANY, "kafka")));
+        percolator.onSavedSearchChanged(SavedSearchChangedEvent.saved(3L));
+        percolator.onSavedSearchChanged(SavedSearchChangedEvent.deleted(2L));
+
+        assertThat(percolator.size()).isEqualTo(2);
+        assertThat(percolate(resource(11L, "Java", "Kafka"))).containsExactly(3L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> percolate(Resource resource) {
+        reset(savedSearchMatchRepository);
+        when(resourceRepository.findAllById(any())).thenReturn(List.of(resource));
+        percolator.onResourceChanged(ResourceChangedEvent.updated(List.of(resource.getId())));
+
+        ArgumentCaptor<List<SavedSearchMatch>> saved = ArgumentCaptor.forClass(List.class);
+        verify(savedSearchMatchRepository, atMost(1)).saveAll(saved.capture());
+        return saved.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(match -> match.getSavedSearch().getId())
+                .toList();
+    }
+
+    private static SavedSearch savedSearch(Long id, SavedSearch.MatchMode matchMode, String... skills) {
+        return SavedSearch.builder()
+                .id(id)
+                .name("Search " + id)
+                .matchMode(matchMode)
+                .skills(new ArrayList<>(Arrays.asList(skills)))
+                .build();
+    }
+
+    private static Resource resource(Long id, String... skills) {
+        return Resource.builder()
+                .id(id)
+                .name("Resource " + id)
+                .skills(Arrays.stream(skills)
+                        .map(skill -> Skill.builder().name(skill).level(Skill.SkillLevel.ADVANCED)
+                                .type(Skill.SkillType.PRIMARY).build())
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.xebia.talentacquisition.service;
+
+import com.xebia.talentacquisition.dto.SavedSearchDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Saved searches reach the percolator only once their transaction commits. Runs against the configured
+ * Postgres and deletes what it creates.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "spring.jpa.show-sql=false")
+class SavedSearchRegistrationTest {
+
+    @Autowired
+    private SavedSearchService savedSearchService;
+
+    @Autowired
+    private SavedSearchPercolator savedSearchPercolator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void registersAfterCommitAndNeverOnRollback() {
+        int before = savedSearchPercolator.size();
+
+        Long id = transactionTemplate.execute(status -> {
+            Long created = savedSearchService.createSavedSearch(savedSearch()).getData().getId();
+            assertThat(savedSearchPercolator.size()).isEqualTo(before);
+            return created;
+        });
+        assertThat(savedSearchPercolator.size()).isEqualTo(before + 1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            savedSearchService.createSavedSearch(savedSearch());
+            status.setRollbackOnly();
+        });
+        assertThat(savedSearchPercolator.size()).isEqualTo(before + 1);
+
+        savedSearchService.deleteSavedSearch(id);
+        assertThat(savedSearchPercolator.size()).isEqualTo(before);
+    }
+
+    private static SavedSearchDTO savedSearch() {
+        return SavedSearchDTO.builder()
+                .name("Registration test")
+                .skills(List.of("Java"))
+                .build();
+    }
+}